@@ -0,0 +1,47 @@
+package pl.amazingcode.threadscollider.benchmarks;
+
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+/** Latency of {@code close()} of collider whose threads have already been started. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CloseBenchmark {
+
+  @Param({"2", "4", "ALL", "2xALL", "4xALL"})
+  public String threads;
+
+  private ThreadsCollider threadsCollider;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+
+    threadsCollider =
+        threadsCollider().withAction(() -> {}).times(ThreadsCount.parse(threads)).build();
+    threadsCollider.collide();
+  }
+
+  @Benchmark
+  public void close() {
+
+    threadsCollider.close();
+  }
+}
@@ -0,0 +1,144 @@
+package pl.amazingcode.threadscollider.benchmarks;
+
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.StartBarrier;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+/**
+ * Time of single collision on warm threads and how tightly threads are released. Release skew and
+ * time to release are reported as secondary results, averaged over all collisions of iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollideBenchmark {
+
+  @Param({"2", "4", "ALL", "2xALL", "4xALL"})
+  public String threads;
+
+  @Param({"ADAPTIVE", "SPIN", "SPIN_YIELD", "SPIN_PARK", "PHASER"})
+  public StartBarrier startBarrier;
+
+  private ThreadsCollider threadsCollider;
+
+  @Setup
+  public void setUp() {
+
+    threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(ThreadsCount.parse(threads))
+            .withStartBarrier(startBarrier)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    threadsCollider.close();
+  }
+
+  @Benchmark
+  public CollisionReport collide(Release release) {
+
+    CollisionReport report = threadsCollider.collide();
+    release.record(report);
+    return report;
+  }
+
+  /** Secondary results of {@link #collide(Release)}. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Release {
+
+    private long collisions;
+    private long timeToReadyNanos;
+    private long timeToReleaseNanos;
+    private long releaseSkewP50Nanos;
+    private long releaseSkewMaxNanos;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+
+      collisions = 0;
+      timeToReadyNanos = 0;
+      timeToReleaseNanos = 0;
+      releaseSkewP50Nanos = 0;
+      releaseSkewMaxNanos = 0;
+    }
+
+    void record(CollisionReport report) {
+
+      collisions++;
+      timeToReadyNanos += report.timeToReadyNanos();
+      timeToReleaseNanos += report.timeToReleaseNanos();
+      releaseSkewP50Nanos += report.releaseSkew().p50();
+      releaseSkewMaxNanos += report.releaseSkew().max();
+    }
+
+    /**
+     * Average time from calling {@code collide()} until the last thread is ready to be released.
+     *
+     * @return time to ready in nanoseconds
+     */
+    public double timeToReadyNs() {
+
+      return average(timeToReadyNanos);
+    }
+
+    /**
+     * Average time from calling {@code collide()} to release of the first thread.
+     *
+     * @return time to release in nanoseconds
+     */
+    public double timeToReleaseNs() {
+
+      return average(timeToReleaseNanos);
+    }
+
+    /**
+     * Average median delay of threads behind the first released thread.
+     *
+     * @return median release skew in nanoseconds
+     */
+    public double releaseSkewP50Ns() {
+
+      return average(releaseSkewP50Nanos);
+    }
+
+    /**
+     * Average delay of the last released thread behind the first one.
+     *
+     * @return max release skew in nanoseconds
+     */
+    public double releaseSkewMaxNs() {
+
+      return average(releaseSkewMaxNanos);
+    }
+
+    private double average(long sum) {
+
+      return collisions == 0 ? 0 : (double) sum / collisions;
+    }
+  }
+}
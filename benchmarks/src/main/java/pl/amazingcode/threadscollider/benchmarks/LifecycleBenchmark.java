@@ -0,0 +1,92 @@
+package pl.amazingcode.threadscollider.benchmarks;
+
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.amazingcode.threadscollider.ColliderPool;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+/**
+ * Cost of creating, using once and closing {@link ThreadsCollider}, which is what each
+ * {@code @RepeatedTest} iteration pays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LifecycleBenchmark {
+
+  @Param({"2", "4", "ALL", "2xALL", "4xALL"})
+  public String threads;
+
+  private int threadsCount;
+  private ThreadsCollider builtCollider;
+
+  @Setup
+  public void setUp() {
+
+    threadsCount = ThreadsCount.parse(threads);
+  }
+
+  /**
+   * Cost of {@code build()} alone. Threads are not started until the first collision. Collider is
+   * closed outside of measurement.
+   */
+  @Benchmark
+  public ThreadsCollider build() {
+
+    builtCollider = threadsCollider().withAction(() -> {}).times(threadsCount).build();
+    return builtCollider;
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeBuiltCollider() {
+
+    if (builtCollider != null) {
+      builtCollider.close();
+      builtCollider = null;
+    }
+  }
+
+  /** Cost of the whole life of single use collider: build, start threads, collide and close. */
+  @Benchmark
+  public CollisionReport buildCollideClose() {
+
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(() -> {}).times(threadsCount).build()) {
+
+      return threadsCollider.collide();
+    }
+  }
+
+  /** The same as {@link #buildCollideClose()}, but threads are borrowed from shared pool. */
+  @Benchmark
+  public CollisionReport buildCollideCloseWithSharedPool() {
+
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(threadsCount)
+            .withColliderPool(ColliderPool.shared())
+            .build()) {
+
+      return threadsCollider.collide();
+    }
+  }
+}
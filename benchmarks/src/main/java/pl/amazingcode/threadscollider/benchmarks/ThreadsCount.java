@@ -0,0 +1,26 @@
+package pl.amazingcode.threadscollider.benchmarks;
+
+import pl.amazingcode.threadscollider.Processors;
+
+/** Parses threads count benchmark parameter, e.g. "2", "ALL" or "4xALL". */
+final class ThreadsCount {
+
+  private static final String ALL = "ALL";
+  private static final String MULTIPLIER = "x";
+
+  private ThreadsCount() {}
+
+  static int parse(String threads) {
+
+    if (ALL.equals(threads)) {
+      return Processors.ALL;
+    }
+
+    if (threads.endsWith(MULTIPLIER + ALL)) {
+      int multiplier = Integer.parseInt(threads.substring(0, threads.indexOf(MULTIPLIER)));
+      return multiplier * Processors.ALL;
+    }
+
+    return Integer.parseInt(threads);
+  }
+}
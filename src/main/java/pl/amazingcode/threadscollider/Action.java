@@ -1,10 +1,12 @@
 package pl.amazingcode.threadscollider;
 
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 class Action {
 
   private final Runnable runnable;
+  private final Callable<?> callable;
 
   @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
   private final Optional<String> actionName;
@@ -12,9 +14,10 @@ class Action {
   private final int times;
 
   @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-  private Action(Runnable runnable, Optional<String> actionName, int times) {
+  private Action(Runnable runnable, Callable<?> callable, Optional<String> actionName, int times) {
 
     this.runnable = runnable;
+    this.callable = callable;
     this.actionName = actionName;
     this.times = times;
   }
@@ -29,14 +32,42 @@ class Action {
       throw InvalidActionRepetitionCount.of(times);
     }
 
-    return new Action(runnable, Optional.ofNullable(actionName), times);
+    return new Action(runnable, null, Optional.ofNullable(actionName), times);
   }
 
+  static Action ofCallable(Callable<?> callable, String actionName, int times) {
+
+    if (callable == null) {
+      throw new NullPointerException("Action callable cannot be null.");
+    }
+
+    if (times < 1) {
+      throw InvalidActionRepetitionCount.of(times);
+    }
+
+    return new Action(null, callable, Optional.ofNullable(actionName), times);
+  }
+
+  /**
+   * Returns runnable of action without results.
+   *
+   * @return runnable or null when action is callable
+   */
   Runnable runnable() {
 
     return runnable;
   }
 
+  /**
+   * Returns callable of action returning results.
+   *
+   * @return callable or null when action is runnable
+   */
+  Callable<?> callable() {
+
+    return callable;
+  }
+
   Optional<String> actionName() {
 
     return actionName;
@@ -0,0 +1,79 @@
+package pl.amazingcode.threadscollider;
+
+/** Exception thrown by action during collision, reported by {@link CollisionReport#failures()}. */
+public final class ActionFailure {
+
+  private final Exception exception;
+  private final String actionName;
+  private final String threadName;
+  private final long timeNanos;
+
+  private ActionFailure(Exception exception, String actionName, String threadName, long timeNanos) {
+
+    this.exception = exception;
+    this.actionName = actionName;
+    this.threadName = threadName;
+    this.timeNanos = timeNanos;
+  }
+
+  static ActionFailure of(
+      Exception exception, String actionName, String threadName, long timeNanos) {
+
+    return new ActionFailure(exception, actionName, threadName, timeNanos);
+  }
+
+  /**
+   * Returns exception thrown by action.
+   *
+   * @return exception thrown by action
+   */
+  public Exception exception() {
+
+    return exception;
+  }
+
+  /**
+   * Returns name of action which has thrown exception, or "action-N" when action has no name, where
+   * N is position of action in builder starting from 1.
+   *
+   * @return action name
+   */
+  public String actionName() {
+
+    return actionName;
+  }
+
+  /**
+   * Returns name of thread which has thrown exception.
+   *
+   * @return thread name
+   */
+  public String threadName() {
+
+    return threadName;
+  }
+
+  /**
+   * Returns time from the start of collision to the moment exception was thrown.
+   *
+   * @return time in nanoseconds
+   */
+  public long timeNanos() {
+
+    return timeNanos;
+  }
+
+  @Override
+  public String toString() {
+
+    return "ActionFailure[actionName="
+        + actionName
+        + ", threadName="
+        + threadName
+        + ", time="
+        + timeNanos
+        + "ns, exception="
+        + exception
+        + "]";
+  }
+}
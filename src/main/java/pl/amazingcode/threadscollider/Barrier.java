@@ -0,0 +1,94 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generation based barrier reused by the same threads in consecutive collision rounds. Between
+ * rounds threads are parked. When round starts, they are woken up and align on the strategy
+ * specific part of the barrier, which releases them at once.
+ */
+abstract class Barrier {
+
+  private final int parties;
+  private final AtomicReferenceArray<Thread> threads;
+  private volatile int round;
+  private volatile boolean closed;
+
+  Barrier(int parties) {
+
+    this.parties = parties;
+    this.threads = new AtomicReferenceArray<>(parties);
+  }
+
+  /**
+   * Waits until given round starts.
+   *
+   * @param party index of waiting thread, from 0 to parties - 1
+   * @param round awaited round, starting from 1
+   * @return false if barrier was closed and thread should stop, true otherwise
+   */
+  final boolean awaitRound(int party, int round) {
+
+    threads.set(party, Thread.currentThread());
+
+    while (this.round < round && !closed) {
+      LockSupport.park(this);
+    }
+
+    return !closed;
+  }
+
+  /**
+   * Signals that thread is ready and waits until all parties of started round are released.
+   *
+   * @param party index of waiting thread, from 0 to parties - 1
+   * @param round started round, starting from 1
+   * @return false if barrier was closed and thread should stop, true otherwise
+   */
+  final boolean arrive(int party, int round) {
+
+    awaitRelease(party, round);
+    return !closed;
+  }
+
+  /** Starts next round, waits until all parties are ready and releases them. */
+  final void release() {
+
+    int nextRound = round + 1;
+    round = nextRound;
+    unparkAll();
+    release(nextRound);
+  }
+
+  /** Wakes up all waiting parties, which stop waiting and return false from await. */
+  final void close() {
+
+    closed = true;
+    abort();
+    unparkAll();
+  }
+
+  abstract void awaitRelease(int party, int round);
+
+  abstract void release(int round);
+
+  abstract void abort();
+
+  int parties() {
+
+    return parties;
+  }
+
+  Thread thread(int party) {
+
+    return threads.get(party);
+  }
+
+  void unparkAll() {
+
+    for (int party = 0; party < parties(); party++) {
+      LockSupport.unpark(threads.get(party));
+    }
+  }
+}
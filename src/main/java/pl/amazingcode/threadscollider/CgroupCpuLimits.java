@@ -0,0 +1,248 @@
+package pl.amazingcode.threadscollider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads CPU limits of Linux control group of current process: CFS quota and cpuset. Limits are read
+ * from cgroup v1 {@code cpu} and {@code cpuset} controllers, or from cgroup v2 unified hierarchy
+ * when there is no v1 controller. Quota is the lowest one found on the way from cgroup of process
+ * up to the root of hierarchy. Limits which cannot be read, e.g. on other systems, are treated as
+ * absent.
+ */
+final class CgroupCpuLimits {
+
+  static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private final Path root;
+  private final List<String> cgroups;
+  private final List<String> mounts;
+
+  private CgroupCpuLimits(Path root, List<String> cgroups, List<String> mounts) {
+
+    this.root = root;
+    this.cgroups = cgroups;
+    this.mounts = mounts;
+  }
+
+  /**
+   * Returns available processors limited by quota and cpuset of control group, but at least one.
+   *
+   * @param availableProcessors processors reported by JVM
+   * @param root root of file system with {@code /proc} and {@code /sys/fs/cgroup}
+   */
+  static int usableProcessors(int availableProcessors, Path root) {
+
+    CgroupCpuLimits limits = of(root);
+    if (limits == null) {
+      return availableProcessors;
+    }
+    int usable = Math.min(availableProcessors, Math.min(limits.quota(), limits.cpuset()));
+    return Math.max(1, usable);
+  }
+
+  private static CgroupCpuLimits of(Path root) {
+
+    try {
+      return new CgroupCpuLimits(
+          root,
+          Files.readAllLines(root.resolve("proc/self/cgroup"), StandardCharsets.UTF_8),
+          Files.readAllLines(root.resolve("proc/self/mountinfo"), StandardCharsets.UTF_8));
+    } catch (IOException | RuntimeException exception) {
+      return null;
+    }
+  }
+
+  /** Returns CFS quota rounded up to whole processors. */
+  int quota() {
+
+    Path v1 = directory("cpu", "cgroup");
+    if (v1 != null) {
+      return lowest(v1, mountPoint("cpu", "cgroup"), this::v1Quota);
+    }
+    Path v2 = directory("", "cgroup2");
+    if (v2 != null) {
+      return lowest(v2, mountPoint("", "cgroup2"), this::v2Quota);
+    }
+    return UNLIMITED;
+  }
+
+  /** Returns number of processors in cpuset. */
+  int cpuset() {
+
+    Path v1 = directory("cpuset", "cgroup");
+    if (v1 != null) {
+      int effective = cpus(v1.resolve("cpuset.effective_cpus"));
+      return effective != UNLIMITED ? effective : cpus(v1.resolve("cpuset.cpus"));
+    }
+    Path v2 = directory("", "cgroup2");
+    if (v2 != null) {
+      return cpus(v2.resolve("cpuset.cpus.effective"));
+    }
+    return UNLIMITED;
+  }
+
+  private int lowest(Path directory, Path mountPoint, Limit limit) {
+
+    int lowest = UNLIMITED;
+    for (Path current = directory;
+        current != null && current.startsWith(mountPoint);
+        current = current.getParent()) {
+      lowest = Math.min(lowest, limit.read(current));
+    }
+    return lowest;
+  }
+
+  private int v1Quota(Path directory) {
+
+    long quota = number(directory.resolve("cpu.cfs_quota_us"));
+    long period = number(directory.resolve("cpu.cfs_period_us"));
+    return processors(quota, period);
+  }
+
+  private int v2Quota(Path directory) {
+
+    String[] max = line(directory.resolve("cpu.max")).split(" ");
+    if (max.length != 2 || max[0].equals("max")) {
+      return UNLIMITED;
+    }
+    return processors(parse(max[0]), parse(max[1]));
+  }
+
+  private static int processors(long quota, long period) {
+
+    if (quota <= 0 || period <= 0) {
+      return UNLIMITED;
+    }
+    return (int) Math.min(UNLIMITED, (quota + period - 1) / period);
+  }
+
+  /** Counts processors in list like {@code 0-3,8,10-11}. */
+  private static int cpus(Path file) {
+
+    String list = line(file);
+    if (list.isEmpty()) {
+      return UNLIMITED;
+    }
+    int cpus = 0;
+    for (String range : list.split(",")) {
+      int dash = range.indexOf('-');
+      cpus +=
+          dash < 0
+              ? 1
+              : (int) (parse(range.substring(dash + 1)) - parse(range.substring(0, dash)) + 1);
+    }
+    return cpus > 0 ? cpus : UNLIMITED;
+  }
+
+  /**
+   * Returns directory of cgroup of process in hierarchy with given controller, or null when there
+   * is no such hierarchy. Empty controller stands for cgroup v2.
+   */
+  private Path directory(String controller, String fileSystem) {
+
+    String[] mount = mount(controller, fileSystem);
+    String path = cgroupPath(controller);
+    if (mount == null || path == null) {
+      return null;
+    }
+    String mountRoot = mount[3];
+    Path mountPoint = mountPoint(mount);
+    if (mountRoot.equals("/")) {
+      return resolve(mountPoint, path);
+    }
+    if (path.startsWith(mountRoot)) {
+      return resolve(mountPoint, path.substring(mountRoot.length()));
+    }
+    return mountPoint;
+  }
+
+  /** Returns path of cgroup of process from {@code /proc/self/cgroup}. */
+  private String cgroupPath(String controller) {
+
+    for (String cgroup : cgroups) {
+      String[] fields = cgroup.split(":", 3);
+      if (fields.length == 3 && matches(fields[1], controller)) {
+        return fields[2];
+      }
+    }
+    return null;
+  }
+
+  /** Returns fields of mount of hierarchy from {@code /proc/self/mountinfo}. */
+  private String[] mount(String controller, String fileSystem) {
+
+    for (String line : mounts) {
+      int separator = line.indexOf(" - ");
+      if (separator < 0) {
+        continue;
+      }
+      String[] fields = line.substring(0, separator).split(" ");
+      String[] described = line.substring(separator + 3).split(" ");
+      if (fields.length >= 5
+          && described.length >= 3
+          && described[0].equals(fileSystem)
+          && (controller.isEmpty() || matches(described[2], controller))) {
+        return fields;
+      }
+    }
+    return null;
+  }
+
+  private Path mountPoint(String controller, String fileSystem) {
+
+    return mountPoint(mount(controller, fileSystem));
+  }
+
+  private Path mountPoint(String[] mount) {
+
+    return resolve(root, mount[4]);
+  }
+
+  private static boolean matches(String options, String controller) {
+
+    return controller.isEmpty()
+        ? options.isEmpty()
+        : Arrays.asList(options.split(",")).contains(controller);
+  }
+
+  private static Path resolve(Path directory, String path) {
+
+    String relative = path.startsWith("/") ? path.substring(1) : path;
+    return relative.isEmpty() ? directory : directory.resolve(relative);
+  }
+
+  private static long number(Path file) {
+
+    String line = line(file);
+    return line.isEmpty() ? -1 : parse(line);
+  }
+
+  private static long parse(String number) {
+
+    try {
+      return Long.parseLong(number);
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
+  private static String line(Path file) {
+
+    try {
+      List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+      return lines.isEmpty() ? "" : lines.get(0).trim();
+    } catch (IOException | RuntimeException exception) {
+      return "";
+    }
+  }
+
+  private interface Limit {
+
+    int read(Path directory);
+  }
+}
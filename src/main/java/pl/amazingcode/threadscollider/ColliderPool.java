@@ -0,0 +1,146 @@
+package pl.amazingcode.threadscollider;
+
+import static pl.amazingcode.threadscollider.ThreadFactory.THREAD_FACTORY;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of daemon threads borrowed by many {@link ThreadsCollider} instances, so threads are not
+ * created and destroyed by every collider. Threads are borrowed when collider collides for the
+ * first time and returned when it is closed. Pool grows to the largest number of threads borrowed
+ * at the same time and never shrinks.
+ *
+ * <p>Returned threads are cleaned up before the next borrower gets them: their names are restored
+ * and interrupt status is cleared. Thread locals are removed as well, when access to {@link Thread}
+ * internals is granted with {@code --add-opens java.base/java.lang=ALL-UNNAMED} on Java 9+.
+ */
+public final class ColliderPool implements AutoCloseable {
+
+  private final ThreadPoolExecutor executor;
+  private final boolean shared;
+  private int borrowedThreads;
+
+  private ColliderPool(java.util.concurrent.ThreadFactory threadFactory, boolean shared) {
+
+    this.executor =
+        new ThreadPoolExecutor(
+            0,
+            Integer.MAX_VALUE,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    this.shared = shared;
+  }
+
+  /**
+   * Creates new pool with given number of already started threads.
+   *
+   * @param threads number of threads started up front
+   * @return {@link ColliderPool}
+   * @throws IllegalArgumentException if threads is negative
+   */
+  public static ColliderPool newInstance(int threads) {
+
+    if (threads < 0) {
+      throw new IllegalArgumentException(
+          String.format("Threads count cannot be negative, but was %d.", threads));
+    }
+
+    return prestarted(threads, false);
+  }
+
+  /**
+   * Returns pool shared by the whole JVM, started with {@link Processors#ALL} threads. Shared pool
+   * cannot be closed, its threads are daemons and live as long as JVM.
+   *
+   * @return shared {@link ColliderPool}
+   */
+  public static ColliderPool shared() {
+
+    return SharedColliderPool.INSTANCE;
+  }
+
+  static ColliderPool owned(java.util.concurrent.ThreadFactory threadFactory) {
+
+    FlightRecorderEvents.poolCreated(0, false);
+    return new ColliderPool(threadFactory, false);
+  }
+
+  /**
+   * Returns number of threads in pool, both borrowed and idle.
+   *
+   * @return number of threads
+   */
+  public int size() {
+
+    return executor.getPoolSize();
+  }
+
+  /**
+   * Runs task on borrowed thread, which is cleaned up and returned to pool when task is done. Pool
+   * grows when all its threads are borrowed, so tasks never wait for each other.
+   *
+   * @param task task to run
+   * @param returned called by borrowed thread after it has been returned to pool
+   */
+  synchronized void execute(Runnable task, Runnable returned) {
+
+    if (executor.isShutdown()) {
+      throw new IllegalStateException("Collider pool is closed.");
+    }
+
+    borrowedThreads++;
+    if (borrowedThreads > executor.getCorePoolSize()) {
+      executor.setCorePoolSize(borrowedThreads);
+    }
+
+    executor.execute(
+        () -> {
+          Thread thread = Thread.currentThread();
+          String name = thread.getName();
+          try {
+            task.run();
+          } finally {
+            thread.setName(name);
+            ThreadLocals.clear();
+            Thread.interrupted();
+            returnThread();
+            returned.run();
+          }
+        });
+  }
+
+  /**
+   * Stops accepting new borrowers. Threads finish, when collisions of colliders which borrowed them
+   * are done. Does nothing for {@link #shared()} pool.
+   */
+  @Override
+  public void close() {
+
+    if (!shared) {
+      executor.shutdown();
+    }
+  }
+
+  private static ColliderPool prestarted(int threads, boolean shared) {
+
+    ColliderPool colliderPool = new ColliderPool(THREAD_FACTORY, shared);
+    colliderPool.executor.setCorePoolSize(threads);
+    colliderPool.executor.prestartAllCoreThreads();
+    FlightRecorderEvents.poolCreated(threads, shared);
+    return colliderPool;
+  }
+
+  private synchronized void returnThread() {
+
+    borrowedThreads--;
+  }
+
+  private static final class SharedColliderPool {
+
+    private static final ColliderPool INSTANCE = prestarted(Processors.ALL, true);
+  }
+}
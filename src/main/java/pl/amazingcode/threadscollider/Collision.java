@@ -0,0 +1,53 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hook placed in code under test to widen race windows. Starting threads at once helps only when
+ * their critical sections overlap, so put {@link #point()} between operations which should not be
+ * interleaved, e.g. between check and act.
+ */
+public final class Collision {
+
+  private static final AtomicInteger ACTIVE_COLLISIONS = new AtomicInteger();
+  private static final ThreadLocal<CollisionPoints> COLLISION_POINTS = new ThreadLocal<>();
+
+  private Collision() {}
+
+  /**
+   * Injects randomized delay, when called by thread of {@link ThreadsCollider} built with {@link
+   * OptionalBuilder#withCollisionPoints(long)} during collision. Delay is either nothing, short
+   * busy spin, {@code Thread.yield()} or short park. Outside such collision it costs one volatile
+   * read.
+   */
+  public static void point() {
+
+    if (ACTIVE_COLLISIONS.get() > 0) {
+      CollisionPoints collisionPoints = COLLISION_POINTS.get();
+
+      if (collisionPoints != null) {
+        collisionPoints.inject();
+      }
+    }
+  }
+
+  static void activate() {
+
+    ACTIVE_COLLISIONS.incrementAndGet();
+  }
+
+  static void deactivate() {
+
+    ACTIVE_COLLISIONS.decrementAndGet();
+  }
+
+  static void enter(CollisionPoints collisionPoints) {
+
+    COLLISION_POINTS.set(collisionPoints);
+  }
+
+  static void exit() {
+
+    COLLISION_POINTS.remove();
+  }
+}
@@ -0,0 +1,89 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * Listener of phases of collision, registered by {@link
+ * OptionalBuilder#withCollisionListener(CollisionListener)}. All methods do nothing by default.
+ *
+ * <p>Per-thread methods are called by threads of collision and must be thread safe. {@link
+ * #onRelease(String, int, int)}, {@link #onActionStart(String, int, int)} and {@link
+ * #onActionEnd(String, int, int, long)} are called inside the race window, so they should neither
+ * allocate nor block, otherwise they disturb the collision. Arguments of per-thread methods are
+ * primitives and action names created up front, so the collider itself does not allocate to call
+ * them. Exceptions thrown by per-thread methods are reported as failures of threads calling them,
+ * see {@link CollisionReport#failures()}, and exceptions thrown by other methods are passed to
+ * threads exceptions consumer.
+ */
+public interface CollisionListener {
+
+  /**
+   * Called by thread calling {@link ThreadsCollider#collide()}, before threads are released.
+   *
+   * @param collision number of collision, starting from 1
+   */
+  default void onCollisionStart(int collision) {}
+
+  /**
+   * Called by thread of action when it arrived at the start barrier, before it waits for release.
+   *
+   * @param actionName name of action of thread
+   * @param party index of thread within collider
+   * @param collision number of collision
+   */
+  default void onThreadReady(String actionName, int party, int collision) {}
+
+  /**
+   * Called by thread of action right after it was released by the start barrier.
+   *
+   * @param actionName name of action of thread
+   * @param party index of thread within collider
+   * @param collision number of collision
+   */
+  default void onRelease(String actionName, int party, int collision) {}
+
+  /**
+   * Called by thread of action before it executes its actions.
+   *
+   * @param actionName name of action of thread
+   * @param party index of thread within collider
+   * @param collision number of collision
+   */
+  default void onActionStart(String actionName, int party, int collision) {}
+
+  /**
+   * Called by thread of action after it executed its actions, also when action has thrown
+   * exception.
+   *
+   * @param actionName name of action of thread
+   * @param party index of thread within collider
+   * @param collision number of collision
+   * @param operations number of executed actions
+   */
+  default void onActionEnd(String actionName, int party, int collision, long operations) {}
+
+  /**
+   * Called by thread of action when action has thrown exception, before {@link #onActionEnd(String,
+   * int, int, long)}.
+   *
+   * @param actionName name of action of thread
+   * @param party index of thread within collider
+   * @param collision number of collision
+   * @param exception exception thrown by action
+   */
+  default void onException(String actionName, int party, int collision, Exception exception) {}
+
+  /**
+   * Called by thread calling {@link ThreadsCollider#collide()}, when threads have not finished
+   * within timeout or were found deadlocked.
+   *
+   * @param unfinishedThreads exception describing unfinished threads
+   */
+  default void onTimeout(UnfinishedThreads unfinishedThreads) {}
+
+  /**
+   * Called by thread calling {@link ThreadsCollider#collide()} after collision, before exceptions
+   * of threads are passed to exceptions consumer.
+   *
+   * @param report report of collision
+   */
+  default void onCollisionEnd(CollisionReport report) {}
+}
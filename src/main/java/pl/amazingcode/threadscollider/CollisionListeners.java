@@ -0,0 +1,93 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Calls many {@link CollisionListener} instances in order in which they were registered. */
+final class CollisionListeners implements CollisionListener {
+
+  private static final CollisionListener NO_LISTENER = new CollisionListener() {};
+
+  private final CollisionListener[] listeners;
+
+  private CollisionListeners(List<CollisionListener> listeners) {
+
+    this.listeners = listeners.toArray(new CollisionListener[0]);
+  }
+
+  /** Returns listener which does nothing, the only listener or listener calling all of them. */
+  static CollisionListener of(List<CollisionListener> listeners) {
+
+    if (listeners.isEmpty()) {
+      return NO_LISTENER;
+    }
+    if (listeners.size() == 1) {
+      return listeners.get(0);
+    }
+    return new CollisionListeners(new ArrayList<>(listeners));
+  }
+
+  @Override
+  public void onCollisionStart(int collision) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onCollisionStart(collision);
+    }
+  }
+
+  @Override
+  public void onThreadReady(String actionName, int party, int collision) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onThreadReady(actionName, party, collision);
+    }
+  }
+
+  @Override
+  public void onRelease(String actionName, int party, int collision) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onRelease(actionName, party, collision);
+    }
+  }
+
+  @Override
+  public void onActionStart(String actionName, int party, int collision) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onActionStart(actionName, party, collision);
+    }
+  }
+
+  @Override
+  public void onActionEnd(String actionName, int party, int collision, long operations) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onActionEnd(actionName, party, collision, operations);
+    }
+  }
+
+  @Override
+  public void onException(String actionName, int party, int collision, Exception exception) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onException(actionName, party, collision, exception);
+    }
+  }
+
+  @Override
+  public void onTimeout(UnfinishedThreads unfinishedThreads) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onTimeout(unfinishedThreads);
+    }
+  }
+
+  @Override
+  public void onCollisionEnd(CollisionReport report) {
+
+    for (CollisionListener listener : listeners) {
+      listener.onCollisionEnd(report);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Randomized delays injected by single collider thread at {@link Collision#point()}. Delays are
+ * drawn from generator seeded with seed of collider, thread and round, so the same collision gets
+ * the same sequence of delays.
+ */
+final class CollisionPoints {
+
+  static final int NONE = 0;
+  static final int SPIN = 1;
+  static final int YIELD = 2;
+  static final int PARK = 3;
+
+  private static final int MAX_SPINS = 1 << 10;
+  private static final long MAX_PARK_NANOS = 1 << 16;
+
+  private final long seed;
+  private final int party;
+  private long state;
+
+  CollisionPoints(long seed, int party) {
+
+    this.seed = seed;
+    this.party = party;
+  }
+
+  /** Restarts sequence of delays for given round. */
+  void reset(int round) {
+
+    state = mix(seed ^ mix(party + 1L) ^ mix(-round));
+  }
+
+  void inject() {
+
+    long random = next();
+
+    switch (delay(random)) {
+      case SPIN:
+        for (long spins = (random >>> 8) % MAX_SPINS; spins > 0; spins--) {
+          SpinWait.onSpinWait();
+        }
+        break;
+      case YIELD:
+        Thread.yield();
+        break;
+      case PARK:
+        LockSupport.parkNanos(this, 1 + (random >>> 8) % MAX_PARK_NANOS);
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Returns kind of delay for given random number: nothing in half of the cases, busy spin or yield
+   * in a fifth each, and short park in the rest.
+   */
+  static int delay(long random) {
+
+    int percent = (int) ((random & 0xFF) * 100 / 256);
+
+    if (percent < 50) {
+      return NONE;
+    }
+    if (percent < 70) {
+      return SPIN;
+    }
+    if (percent < 90) {
+      return YIELD;
+    }
+    return PARK;
+  }
+
+  /** Draws the next random number of sequence of current round. */
+  long next() {
+
+    state += 0x9E3779B97F4A7C15L;
+    return mix(state);
+  }
+
+  /** SplitMix64 finalizer. */
+  private static long mix(long value) {
+
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
+  }
+}
@@ -0,0 +1,437 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records moments at which threads became ready, left the start barrier and finished their actions,
+ * together with results and exceptions of actions and violations of invariants. Recording only
+ * writes to arrays preallocated for each thread, so it does not allocate nor contend during
+ * collision.
+ */
+final class CollisionRecorder {
+
+  private static final long UNFINISHED = Long.MIN_VALUE;
+
+  private final Map<String, int[]> actionParties;
+  private final String[] partyActionNames;
+  private final long[] readyTimes;
+  private final long[] releaseTimes;
+  private final long[] finishTimes;
+  private final long[] operations;
+  private final LatencyHistogram[] latencyHistograms;
+  private final Object[][] results;
+  private final Exception[] exceptions;
+  private final String[] failedThreadNames;
+  private final long[] failureTimes;
+  private final InvariantViolation[] invariantViolations;
+  private final long[] contentionAtRelease;
+  private final long[] contentionAtFinish;
+  private final long[] resourcesAtRelease;
+  private final long[] resourcesAtFinish;
+  private long startTime;
+
+  CollisionRecorder(
+      List<Action> actions,
+      int threadsCount,
+      int iterations,
+      boolean latencyHistograms,
+      int invariantsCount,
+      boolean contentionMonitoring,
+      boolean resourceUsage) {
+
+    this.actionParties = actionParties(actions);
+    this.partyActionNames = new String[threadsCount];
+    actionParties.forEach(
+        (name, parties) -> {
+          for (int party : parties) {
+            partyActionNames[party] = name;
+          }
+        });
+    this.readyTimes = new long[threadsCount];
+    this.releaseTimes = new long[threadsCount];
+    this.finishTimes = new long[threadsCount];
+    this.operations = new long[threadsCount];
+    this.latencyHistograms = latencyHistograms ? new LatencyHistogram[threadsCount] : null;
+
+    if (latencyHistograms) {
+      for (int party = 0; party < threadsCount; party++) {
+        this.latencyHistograms[party] = new LatencyHistogram();
+      }
+    }
+
+    this.exceptions = new Exception[threadsCount];
+    this.failedThreadNames = new String[threadsCount];
+    this.failureTimes = new long[threadsCount];
+    this.results = new Object[threadsCount][];
+    this.invariantViolations = new InvariantViolation[invariantsCount];
+    this.contentionAtRelease =
+        contentionMonitoring ? new long[threadsCount * ThreadContention.COUNTERS] : null;
+    this.contentionAtFinish =
+        contentionMonitoring ? new long[threadsCount * ThreadContention.COUNTERS] : null;
+    this.resourcesAtRelease =
+        resourceUsage ? new long[threadsCount * ThreadResources.COUNTERS] : null;
+    this.resourcesAtFinish =
+        resourceUsage ? new long[threadsCount * ThreadResources.COUNTERS] : null;
+    int party = 0;
+    for (Action action : actions) {
+      for (int i = 0; i < action.times(); i++, party++) {
+        if (action.callable() != null) {
+          this.results[party] = new Object[iterations];
+        }
+      }
+    }
+  }
+
+  /**
+   * Groups threads by name of action they execute. Threads are numbered in order of actions
+   * registration in builder. Actions without name are named "action-N", where N is position of
+   * action in builder starting from 1.
+   */
+  static Map<String, int[]> actionParties(List<Action> actions) {
+
+    Map<String, List<Integer>> partiesByName = new LinkedHashMap<>();
+    int party = 0;
+
+    for (int index = 0; index < actions.size(); index++) {
+      Action action = actions.get(index);
+      List<Integer> parties =
+          partiesByName.computeIfAbsent(
+              action.actionName().orElse("action-" + (index + 1)), name -> new ArrayList<>());
+
+      for (int i = 0; i < action.times(); i++) {
+        parties.add(party++);
+      }
+    }
+
+    Map<String, int[]> actionParties = new LinkedHashMap<>();
+    partiesByName.forEach(
+        (name, parties) -> actionParties.put(name, parties.stream().mapToInt(i -> i).toArray()));
+    return actionParties;
+  }
+
+  void start() {
+
+    if (latencyHistograms != null) {
+      for (LatencyHistogram latencyHistogram : latencyHistograms) {
+        latencyHistogram.reset();
+      }
+    }
+    Arrays.fill(finishTimes, UNFINISHED);
+    Arrays.fill(exceptions, null);
+    Arrays.fill(invariantViolations, null);
+    startTime = System.nanoTime();
+  }
+
+  void ready(int party) {
+
+    readyTimes[party] = System.nanoTime();
+  }
+
+  void released(int party) {
+
+    releaseTimes[party] = System.nanoTime();
+    if (contentionAtRelease != null) {
+      ThreadContention.snapshot(contentionAtRelease, party);
+    }
+    if (resourcesAtRelease != null) {
+      ThreadResources.snapshot(resourcesAtRelease, party);
+    }
+  }
+
+  /**
+   * Returns histogram into which thread of given party records latencies of its actions.
+   *
+   * @param party index of thread
+   * @return latency histogram or null when latencies are not recorded
+   */
+  LatencyHistogram latencyHistogram(int party) {
+
+    return latencyHistograms == null ? null : latencyHistograms[party];
+  }
+
+  /**
+   * Stores result of given operation in slots of thread. Slots are preallocated for configured
+   * number of iterations and grow when actions are repeated for given duration.
+   */
+  void result(int party, long operation, Object result) {
+
+    Object[] slots = results[party];
+    if (operation >= slots.length) {
+      slots = Arrays.copyOf(slots, slots.length * 2);
+      results[party] = slots;
+    }
+    slots[(int) operation] = result;
+  }
+
+  /**
+   * Stores the first failure of thread in collision in its slot, either exception which stopped its
+   * action or exception thrown by listener. Later failures of the same thread are ignored, so one
+   * slot for each thread is enough.
+   */
+  void failed(int party, Exception exception) {
+
+    if (exceptions[party] != null) {
+      return;
+    }
+    failureTimes[party] = System.nanoTime();
+    failedThreadNames[party] = Thread.currentThread().getName();
+    exceptions[party] = exception;
+  }
+
+  /** Returns time from the start of collision. */
+  long elapsedNanos() {
+
+    return System.nanoTime() - startTime;
+  }
+
+  /** Stores the first violation of invariant in its slot. */
+  void violated(int invariant, InvariantViolation violation) {
+
+    invariantViolations[invariant] = violation;
+  }
+
+  void finished(int party, long operations) {
+
+    finishTimes[party] = System.nanoTime();
+    this.operations[party] = operations;
+    if (resourcesAtFinish != null) {
+      ThreadResources.snapshot(resourcesAtFinish, party);
+    }
+    if (contentionAtFinish != null) {
+      ThreadContention.snapshot(contentionAtFinish, party);
+    }
+  }
+
+  boolean hasFinished(int party) {
+
+    return finishTimes[party] != UNFINISHED;
+  }
+
+  String actionName(int party) {
+
+    return partyActionNames[party];
+  }
+
+  CollisionReport report(UnfinishedThreads unfinishedThreads) {
+
+    long wallTime = System.nanoTime() - startTime;
+    long firstReleaseTime = firstReleaseTime();
+    int[] allParties = new int[releaseTimes.length];
+    for (int party = 0; party < allParties.length; party++) {
+      allParties[party] = party;
+    }
+
+    Map<String, List<Object>> actionResults = new LinkedHashMap<>();
+    actionParties.forEach(
+        (name, parties) -> {
+          if (Arrays.stream(parties).anyMatch(party -> results[party] != null)) {
+            actionResults.put(name, results(parties));
+          }
+        });
+
+    Map<String, Throughput> actionThroughput = new LinkedHashMap<>();
+    actionParties.forEach((name, parties) -> actionThroughput.put(name, throughput(parties)));
+
+    return CollisionReport.of(
+        releaseSkew(firstReleaseTime),
+        actionDurations(),
+        throughput(allParties),
+        actionThroughput,
+        actionLatencies(),
+        results(allParties),
+        actionResults,
+        failures(),
+        invariantViolations(),
+        unfinishedThreads,
+        actionContention(),
+        actionResourceUsage(),
+        lastReadyTime() - startTime,
+        firstReleaseTime - startTime,
+        wallTime);
+  }
+
+  private long lastReadyTime() {
+
+    long lastReadyTime = Long.MIN_VALUE;
+    for (long readyTime : readyTimes) {
+      lastReadyTime = Math.max(lastReadyTime, readyTime);
+    }
+    return lastReadyTime;
+  }
+
+  private long firstReleaseTime() {
+
+    long firstReleaseTime = Long.MAX_VALUE;
+    for (long releaseTime : releaseTimes) {
+      firstReleaseTime = Math.min(firstReleaseTime, releaseTime);
+    }
+    return firstReleaseTime;
+  }
+
+  private Timings releaseSkew(long firstReleaseTime) {
+
+    long[] skews = new long[releaseTimes.length];
+    for (int party = 0; party < releaseTimes.length; party++) {
+      skews[party] = releaseTimes[party] - firstReleaseTime;
+    }
+    return Timings.of(skews, skews.length);
+  }
+
+  private Map<String, Timings> actionDurations() {
+
+    Map<String, Timings> actionDurations = new LinkedHashMap<>();
+    long[] durations = new long[finishTimes.length];
+
+    actionParties.forEach(
+        (name, parties) -> {
+          int count = 0;
+          for (int party : parties) {
+            if (finishTimes[party] != UNFINISHED) {
+              durations[count++] = finishTimes[party] - releaseTimes[party];
+            }
+          }
+          actionDurations.put(name, Timings.of(durations, count));
+        });
+    return actionDurations;
+  }
+
+  private Throughput throughput(int[] parties) {
+
+    long[] finishedOperations = new long[parties.length];
+    long firstReleaseTime = Long.MAX_VALUE;
+    long lastFinishTime = Long.MIN_VALUE;
+    int count = 0;
+
+    for (int party : parties) {
+      if (finishTimes[party] != UNFINISHED) {
+        finishedOperations[count++] = operations[party];
+        firstReleaseTime = Math.min(firstReleaseTime, releaseTimes[party]);
+        lastFinishTime = Math.max(lastFinishTime, finishTimes[party]);
+      }
+    }
+
+    return Throughput.of(
+        finishedOperations, count, count == 0 ? 0 : lastFinishTime - firstReleaseTime);
+  }
+
+  private List<ActionFailure> failures() {
+
+    List<ActionFailure> failures = new ArrayList<>();
+    for (int party = 0; party < exceptions.length; party++) {
+      if (exceptions[party] != null && finishTimes[party] != UNFINISHED) {
+        failures.add(
+            ActionFailure.of(
+                exceptions[party],
+                partyActionNames[party],
+                failedThreadNames[party],
+                failureTimes[party] - startTime));
+      }
+    }
+    failures.sort(Comparator.comparingLong(ActionFailure::timeNanos));
+    return failures;
+  }
+
+  /**
+   * Sums blocked and waited statistics of threads of each action between the moment they were
+   * released and the moment they finished their actions. Unfinished threads are not included.
+   */
+  private Map<String, Contention> actionContention() {
+
+    Map<String, Contention> actionContention = new LinkedHashMap<>();
+
+    if (contentionAtRelease != null) {
+      actionParties.forEach(
+          (name, parties) -> {
+            long[] sums = new long[ThreadContention.COUNTERS];
+            for (int party : parties) {
+              if (finishTimes[party] != UNFINISHED) {
+                int offset = party * ThreadContention.COUNTERS;
+                for (int counter = 0; counter < sums.length; counter++) {
+                  sums[counter] +=
+                      contentionAtFinish[offset + counter] - contentionAtRelease[offset + counter];
+                }
+              }
+            }
+            actionContention.put(name, Contention.of(sums[0], sums[1], sums[2], sums[3]));
+          });
+    }
+    return actionContention;
+  }
+
+  /**
+   * Sums CPU time and allocated bytes of threads of each action between release from the start
+   * barrier and the moment they finished their actions, so spinning on the barrier is not counted.
+   * Unfinished threads are not included. Sum is -1 when any thread of action was not measured.
+   */
+  private Map<String, ResourceUsage> actionResourceUsage() {
+
+    Map<String, ResourceUsage> actionResourceUsage = new LinkedHashMap<>();
+
+    if (resourcesAtRelease != null) {
+      actionParties.forEach(
+          (name, parties) -> {
+            long[] sums = new long[ThreadResources.COUNTERS];
+            for (int party : parties) {
+              if (finishTimes[party] != UNFINISHED) {
+                int offset = party * ThreadResources.COUNTERS;
+                for (int counter = 0; counter < sums.length; counter++) {
+                  long atRelease = resourcesAtRelease[offset + counter];
+                  long atFinish = resourcesAtFinish[offset + counter];
+                  sums[counter] =
+                      sums[counter] < 0 || atRelease < 0 || atFinish < 0
+                          ? -1
+                          : sums[counter] + atFinish - atRelease;
+                }
+              }
+            }
+            actionResourceUsage.put(name, ResourceUsage.of(sums[0], sums[1]));
+          });
+    }
+    return actionResourceUsage;
+  }
+
+  private List<InvariantViolation> invariantViolations() {
+
+    List<InvariantViolation> violations = new ArrayList<>();
+    for (InvariantViolation violation : invariantViolations) {
+      if (violation != null) {
+        violations.add(violation);
+      }
+    }
+    violations.sort(Comparator.comparingLong(InvariantViolation::timeNanos));
+    return violations;
+  }
+
+  private List<Object> results(int[] parties) {
+
+    List<Object> partiesResults = new ArrayList<>();
+    for (int party : parties) {
+      if (results[party] != null && finishTimes[party] != UNFINISHED) {
+        partiesResults.addAll(Arrays.asList(results[party]).subList(0, (int) operations[party]));
+      }
+    }
+    return partiesResults;
+  }
+
+  private Map<String, LatencyHistogram> actionLatencies() {
+
+    Map<String, LatencyHistogram> actionLatencies = new LinkedHashMap<>();
+
+    if (latencyHistograms != null) {
+      actionParties.forEach(
+          (name, parties) -> {
+            LatencyHistogram actionLatency = new LatencyHistogram();
+            for (int party : parties) {
+              actionLatency.add(latencyHistograms[party]);
+            }
+            actionLatencies.put(name, actionLatency);
+          });
+    }
+    return actionLatencies;
+  }
+}
@@ -0,0 +1,305 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/** Timings of single collision returned by {@link ThreadsCollider#collide()}. */
+public final class CollisionReport {
+
+  private final Timings releaseSkew;
+  private final Map<String, Timings> actionDurations;
+  private final Throughput throughput;
+  private final Map<String, Throughput> actionThroughput;
+  private final Map<String, LatencyHistogram> actionLatencies;
+  private final List<Object> results;
+  private final Map<String, List<Object>> actionResults;
+  private final List<ActionFailure> failures;
+  private final List<InvariantViolation> invariantViolations;
+  private final UnfinishedThreads unfinishedThreads;
+  private final Map<String, Contention> actionContention;
+  private final Map<String, ResourceUsage> actionResourceUsage;
+  private final long timeToReadyNanos;
+  private final long timeToReleaseNanos;
+  private final long wallTimeNanos;
+
+  private CollisionReport(
+      Timings releaseSkew,
+      Map<String, Timings> actionDurations,
+      Throughput throughput,
+      Map<String, Throughput> actionThroughput,
+      Map<String, LatencyHistogram> actionLatencies,
+      List<Object> results,
+      Map<String, List<Object>> actionResults,
+      List<ActionFailure> failures,
+      List<InvariantViolation> invariantViolations,
+      UnfinishedThreads unfinishedThreads,
+      Map<String, Contention> actionContention,
+      Map<String, ResourceUsage> actionResourceUsage,
+      long timeToReadyNanos,
+      long timeToReleaseNanos,
+      long wallTimeNanos) {
+
+    this.releaseSkew = releaseSkew;
+    this.actionDurations = Collections.unmodifiableMap(actionDurations);
+    this.throughput = throughput;
+    this.actionThroughput = Collections.unmodifiableMap(actionThroughput);
+    this.actionLatencies = Collections.unmodifiableMap(actionLatencies);
+    this.results = Collections.unmodifiableList(results);
+    this.actionResults = Collections.unmodifiableMap(actionResults);
+    this.failures = Collections.unmodifiableList(failures);
+    this.invariantViolations = Collections.unmodifiableList(invariantViolations);
+    this.unfinishedThreads = unfinishedThreads;
+    this.actionContention = Collections.unmodifiableMap(actionContention);
+    this.actionResourceUsage = Collections.unmodifiableMap(actionResourceUsage);
+    this.timeToReadyNanos = timeToReadyNanos;
+    this.timeToReleaseNanos = timeToReleaseNanos;
+    this.wallTimeNanos = wallTimeNanos;
+  }
+
+  static CollisionReport of(
+      Timings releaseSkew,
+      Map<String, Timings> actionDurations,
+      Throughput throughput,
+      Map<String, Throughput> actionThroughput,
+      Map<String, LatencyHistogram> actionLatencies,
+      List<Object> results,
+      Map<String, List<Object>> actionResults,
+      List<ActionFailure> failures,
+      List<InvariantViolation> invariantViolations,
+      UnfinishedThreads unfinishedThreads,
+      Map<String, Contention> actionContention,
+      Map<String, ResourceUsage> actionResourceUsage,
+      long timeToReadyNanos,
+      long timeToReleaseNanos,
+      long wallTimeNanos) {
+
+    return new CollisionReport(
+        releaseSkew,
+        actionDurations,
+        throughput,
+        actionThroughput,
+        actionLatencies,
+        results,
+        actionResults,
+        failures,
+        invariantViolations,
+        unfinishedThreads,
+        actionContention,
+        actionResourceUsage,
+        timeToReadyNanos,
+        timeToReleaseNanos,
+        wallTimeNanos);
+  }
+
+  /**
+   * Returns distribution of delays between the moment the first thread left the start barrier and
+   * the moments the other threads left it. The max value is the time between the first and the last
+   * released thread. Use it to judge whether threads really collided and to compare {@link
+   * StartBarrier} strategies on given hardware.
+   *
+   * @return release skew of all threads
+   */
+  public Timings releaseSkew() {
+
+    return releaseSkew;
+  }
+
+  /**
+   * Returns durations of actions measured from the moment thread left the start barrier to the
+   * moment action finished. When actions are repeated, duration covers all repetitions executed by
+   * thread. Threads which have not finished within timeout are not included. Actions are identified
+   * by action name, or by "action-N" when name is not given, where N is position of action in
+   * builder starting from 1.
+   *
+   * @return action durations by action name
+   */
+  public Map<String, Timings> actionDurations() {
+
+    return actionDurations;
+  }
+
+  /**
+   * Returns number of actions executed by all threads, their rate and fairness of threads. Most
+   * useful when actions are repeated with {@link OptionalBuilder#withIterations(int)} or {@link
+   * OptionalBuilder#withDuration(long, java.util.concurrent.TimeUnit)}.
+   *
+   * @return throughput of all threads
+   */
+  public Throughput throughput() {
+
+    return throughput;
+  }
+
+  /**
+   * Returns throughput of threads executing the same action. Actions are identified in the same way
+   * as in {@link #actionDurations()}.
+   *
+   * @return throughput by action name
+   */
+  public Map<String, Throughput> actionThroughput() {
+
+    return actionThroughput;
+  }
+
+  /**
+   * Returns histograms of latencies of every single action execution, when enabled with {@link
+   * OptionalBuilder#withLatencyHistograms()}. Actions are identified in the same way as in {@link
+   * #actionDurations()}.
+   *
+   * @return latency histograms by action name, empty when latencies are not recorded
+   */
+  public Map<String, LatencyHistogram> actionLatencies() {
+
+    return actionLatencies;
+  }
+
+  /**
+   * Returns results of actions added with {@link OptionalActionBuilder#withCallable(
+   * java.util.concurrent.Callable)}, in order of actions in builder. Results of the same thread are
+   * in order of execution. Threads which have not finished within timeout are not included. Results
+   * are copied from slots of threads after collision, so they can be asserted without affecting it.
+   *
+   * @return results of all callable actions
+   */
+  public List<Object> results() {
+
+    return results;
+  }
+
+  /**
+   * Returns results of callable actions by action name. Actions are identified in the same way as
+   * in {@link #actionDurations()}.
+   *
+   * @return results by action name, without actions which do not return results
+   */
+  public Map<String, List<Object>> actionResults() {
+
+    return actionResults;
+  }
+
+  /**
+   * Returns exceptions thrown by actions, in order they were thrown. Each thread stores exception
+   * which stopped it in its own slot, so failing threads do not contend with each other. Exceptions
+   * are collected after collision and then passed to {@link
+   * OptionalBuilder#withThreadsExceptionsConsumer(java.util.function.Consumer)}. Threads which have
+   * not finished within timeout are not included.
+   *
+   * @return failures of actions
+   */
+  public List<ActionFailure> failures() {
+
+    return failures;
+  }
+
+  /**
+   * Returns the first violation of each invariant observed during collision, in order they were
+   * observed. Violations are also passed to {@link
+   * OptionalBuilder#withThreadsExceptionsConsumer(java.util.function.Consumer)} after failures of
+   * actions.
+   *
+   * @return violations of invariants
+   */
+  public List<InvariantViolation> invariantViolations() {
+
+    return invariantViolations;
+  }
+
+  /**
+   * Returns threads which have not finished their actions within timeout or were found in deadlock,
+   * with their full stacks. The same exception is passed to threads exceptions consumer. Collider
+   * cannot collide again after it.
+   *
+   * @return unfinished threads, or empty when all threads finished
+   */
+  public Optional<UnfinishedThreads> unfinishedThreads() {
+
+    return Optional.ofNullable(unfinishedThreads);
+  }
+
+  /**
+   * Returns blocked and waited counts and times of threads of each action, summed from the moment
+   * threads were released by start barrier to the moment they finished their actions, so waiting on
+   * start barrier is not counted. Empty unless {@link OptionalBuilder#withContentionMonitoring()}
+   * is used.
+   *
+   * @return contention of threads by action name
+   */
+  public Map<String, Contention> actionContention() {
+
+    return actionContention;
+  }
+
+  /**
+   * Returns CPU time and allocated bytes of threads of each action, summed from release from the
+   * start barrier to the moment threads finished their actions. Empty unless {@link
+   * OptionalBuilder#withResourceUsage()} is used.
+   *
+   * @return resource usage of threads by action name
+   */
+  public Map<String, ResourceUsage> actionResourceUsage() {
+
+    return actionResourceUsage;
+  }
+
+  /**
+   * Returns time from the start of collision to the moment the last thread woke up and arrived at
+   * the start barrier. It grows when there are more threads than available processors, because
+   * threads have to wait for a processor before they become ready.
+   *
+   * @return time to ready in nanoseconds
+   */
+  public long timeToReadyNanos() {
+
+    return timeToReadyNanos;
+  }
+
+  /**
+   * Returns time from the start of collision to the moment the first thread left the start barrier.
+   * It includes waking up threads parked between collisions and waiting until all of them are
+   * ready.
+   *
+   * @return time to release in nanoseconds
+   */
+  public long timeToReleaseNanos() {
+
+    return timeToReleaseNanos;
+  }
+
+  /**
+   * Returns time from the start of collision to the moment all threads finished or timeout expired.
+   *
+   * @return wall time in nanoseconds
+   */
+  public long wallTimeNanos() {
+
+    return wallTimeNanos;
+  }
+
+  @Override
+  public String toString() {
+
+    return "CollisionReport[releaseSkew="
+        + releaseSkew
+        + ", actionDurations="
+        + actionDurations
+        + ", throughput="
+        + throughput
+        + ", actionThroughput="
+        + actionThroughput
+        + ", actionLatencies="
+        + actionLatencies
+        + ", failures="
+        + failures
+        + ", unfinishedThreads="
+        + (unfinishedThreads != null)
+        + ", timeToReady="
+        + timeToReadyNanos
+        + "ns, timeToRelease="
+        + timeToReleaseNanos
+        + "ns, wallTime="
+        + wallTimeNanos
+        + "ns]";
+  }
+}
@@ -0,0 +1,84 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * How many times and for how long threads of action were blocked on monitors and waited during
+ * collision, reported by {@link CollisionReport#actionContention()}.
+ */
+public final class Contention {
+
+  private final long blockedCount;
+  private final long blockedTimeMillis;
+  private final long waitedCount;
+  private final long waitedTimeMillis;
+
+  private Contention(
+      long blockedCount, long blockedTimeMillis, long waitedCount, long waitedTimeMillis) {
+
+    this.blockedCount = blockedCount;
+    this.blockedTimeMillis = blockedTimeMillis;
+    this.waitedCount = waitedCount;
+    this.waitedTimeMillis = waitedTimeMillis;
+  }
+
+  static Contention of(
+      long blockedCount, long blockedTimeMillis, long waitedCount, long waitedTimeMillis) {
+
+    return new Contention(blockedCount, blockedTimeMillis, waitedCount, waitedTimeMillis);
+  }
+
+  /**
+   * Returns how many times threads were blocked entering or reentering synchronized block.
+   *
+   * @return blocked count
+   */
+  public long blockedCount() {
+
+    return blockedCount;
+  }
+
+  /**
+   * Returns total time threads were blocked entering or reentering synchronized block.
+   *
+   * @return blocked time in milliseconds
+   */
+  public long blockedTimeMillis() {
+
+    return blockedTimeMillis;
+  }
+
+  /**
+   * Returns how many times threads waited in {@link Object#wait()}, {@link Thread#join()}, {@link
+   * java.util.concurrent.locks.LockSupport#park()} and similar, e.g. on {@link
+   * java.util.concurrent.locks.ReentrantLock}.
+   *
+   * @return waited count
+   */
+  public long waitedCount() {
+
+    return waitedCount;
+  }
+
+  /**
+   * Returns total time threads waited.
+   *
+   * @return waited time in milliseconds
+   */
+  public long waitedTimeMillis() {
+
+    return waitedTimeMillis;
+  }
+
+  @Override
+  public String toString() {
+
+    return "Contention[blocked="
+        + blockedCount
+        + " ("
+        + blockedTimeMillis
+        + "ms), waited="
+        + waitedCount
+        + " ("
+        + waitedTimeMillis
+        + "ms)]";
+  }
+}
@@ -0,0 +1,53 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.management.ManagementFactory;
+
+/** Finds threads deadlocked on monitors or ownable synchronizers. */
+final class Deadlocks {
+
+  private static final long[] NONE = new long[0];
+
+  private Deadlocks() {}
+
+  /**
+   * Returns ids of all deadlocked threads in JVM.
+   *
+   * @return ids of deadlocked threads, empty when there are no deadlocks
+   */
+  static long[] deadlockedThreads() {
+
+    long[] threadIds = ManagementFactory.getThreadMXBean().findDeadlockedThreads();
+    return threadIds == null ? NONE : threadIds;
+  }
+
+  /**
+   * Returns ids of deadlocked threads, when any of threads waiting on given barrier is deadlocked.
+   * Other threads in the same deadlock cycle, which do not belong to collider, are returned as
+   * well.
+   *
+   * @param barrier barrier of collider threads
+   * @return ids of deadlocked threads, empty when no collider thread is deadlocked
+   */
+  static long[] deadlockedThreads(Barrier barrier) {
+
+    long[] deadlockedThreads = deadlockedThreads();
+
+    for (int party = 0; party < barrier.parties(); party++) {
+      Thread thread = barrier.thread(party);
+      if (thread != null && contains(deadlockedThreads, thread.getId())) {
+        return deadlockedThreads;
+      }
+    }
+    return NONE;
+  }
+
+  private static boolean contains(long[] threadIds, long threadId) {
+
+    for (long id : threadIds) {
+      if (id == threadId) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,264 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * Result of {@link StatisticalRunner}: number of rounds and manifestations of bug, with estimated
+ * per round probability of manifestation and its Wilson score confidence interval.
+ */
+public final class DetectionReport {
+
+  /** Reason why runner stopped. */
+  public enum Stop {
+    /** Bug has manifested requested number of times. */
+    FAILURES_FOUND,
+    /** Bug has not manifested, although it would have with chosen confidence. */
+    NOT_DETECTABLE,
+    /**
+     * Bug has manifested fewer times than requested, but upper bound of its probability has dropped
+     * below minimal detectable probability, so the rest of failures would take too many rounds.
+     */
+    BELOW_MIN_DETECTABLE_PROBABILITY,
+    /** Runner has reached max rounds. */
+    MAX_ROUNDS
+  }
+
+  private final Stop stop;
+  private final int rounds;
+  private final int failures;
+  private final double confidence;
+  private final double minDetectableProbability;
+  private final long elapsedNanos;
+  private final double lowerBound;
+  private final double upperBound;
+
+  private DetectionReport(
+      Stop stop,
+      int rounds,
+      int failures,
+      double confidence,
+      double minDetectableProbability,
+      long elapsedNanos) {
+
+    this.stop = stop;
+    this.rounds = rounds;
+    this.failures = failures;
+    this.confidence = confidence;
+    this.minDetectableProbability = minDetectableProbability;
+    this.elapsedNanos = elapsedNanos;
+
+    double z = zScore(confidence);
+    this.lowerBound = lowerBound(failures, rounds, z);
+    this.upperBound = upperBound(failures, rounds, z);
+  }
+
+  /** Returns z score of two-sided confidence interval with given confidence. */
+  static double zScore(double confidence) {
+
+    return normalQuantile(1 - (1 - confidence) / 2);
+  }
+
+  /** Returns lower bound of Wilson score interval of probability. */
+  static double lowerBound(int failures, int rounds, double z) {
+
+    return failures == 0
+        ? 0
+        : Math.max(0, center(failures, rounds, z) - halfWidth(failures, rounds, z));
+  }
+
+  /** Returns upper bound of Wilson score interval of probability. */
+  static double upperBound(int failures, int rounds, double z) {
+
+    return failures == rounds
+        ? 1
+        : Math.min(1, center(failures, rounds, z) + halfWidth(failures, rounds, z));
+  }
+
+  private static double center(int failures, int rounds, double z) {
+
+    double estimate = (double) failures / rounds;
+    double zz = z * z / rounds;
+    return (estimate + zz / 2) / (1 + zz);
+  }
+
+  private static double halfWidth(int failures, int rounds, double z) {
+
+    double estimate = (double) failures / rounds;
+    double zz = z * z / rounds;
+    return z * Math.sqrt(estimate * (1 - estimate) / rounds + zz / (4.0 * rounds)) / (1 + zz);
+  }
+
+  static DetectionReport of(
+      Stop stop,
+      int rounds,
+      int failures,
+      double confidence,
+      double minDetectableProbability,
+      long elapsedNanos) {
+
+    return new DetectionReport(
+        stop, rounds, failures, confidence, minDetectableProbability, elapsedNanos);
+  }
+
+  /**
+   * Returns reason why runner stopped.
+   *
+   * @return {@link Stop}
+   */
+  public Stop stop() {
+
+    return stop;
+  }
+
+  /**
+   * Returns true when bug has manifested at least once.
+   *
+   * @return true when bug was detected
+   */
+  public boolean detected() {
+
+    return failures > 0;
+  }
+
+  /**
+   * Returns number of executed rounds.
+   *
+   * @return number of rounds
+   */
+  public int rounds() {
+
+    return rounds;
+  }
+
+  /**
+   * Returns number of rounds in which bug has manifested.
+   *
+   * @return number of failures
+   */
+  public int failures() {
+
+    return failures;
+  }
+
+  /**
+   * Returns estimated per round probability of manifestation of bug, failures / rounds.
+   *
+   * @return estimated probability
+   */
+  public double probability() {
+
+    return (double) failures / rounds;
+  }
+
+  /**
+   * Returns lower bound of confidence interval of per round probability.
+   *
+   * @return lower bound of probability
+   */
+  public double lowerBound() {
+
+    return lowerBound;
+  }
+
+  /**
+   * Returns upper bound of confidence interval of per round probability. When bug has not
+   * manifested, it tells how rare the bug can still be.
+   *
+   * @return upper bound of probability
+   */
+  public double upperBound() {
+
+    return upperBound;
+  }
+
+  /**
+   * Returns confidence of interval of probability.
+   *
+   * @return confidence from 0 to 1
+   */
+  public double confidence() {
+
+    return confidence;
+  }
+
+  /**
+   * Returns time of all rounds.
+   *
+   * @return time in nanoseconds
+   */
+  public long elapsedNanos() {
+
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns number of rounds needed to see bug at least once with given probability, assuming bug
+   * manifests as rarely as lower bound of its probability. Multiply by mean round time, {@link
+   * #elapsedNanos()} / {@link #rounds()}, to budget time of test.
+   *
+   * @param detectionProbability probability of seeing the bug, from 0 to 1, exclusive
+   * @return number of rounds, or {@link Long#MAX_VALUE} when bug has not manifested
+   */
+  public long roundsToDetect(double detectionProbability) {
+
+    if (lowerBound == 0) {
+      return Long.MAX_VALUE;
+    }
+    if (lowerBound == 1) {
+      return 1;
+    }
+    return (long) Math.ceil(Math.log(1 - detectionProbability) / Math.log(1 - lowerBound));
+  }
+
+  @Override
+  public String toString() {
+
+    return String.format(
+        "DetectionReport[stop=%s, rounds=%d, failures=%d, probability=%.6f, "
+            + "interval=[%.6f, %.6f] at %.1f%% confidence, minDetectableProbability=%s, time=%dms]",
+        stop,
+        rounds,
+        failures,
+        probability(),
+        lowerBound,
+        upperBound,
+        confidence * 100,
+        minDetectableProbability,
+        elapsedNanos / 1_000_000);
+  }
+
+  /** Acklam's rational approximation of inverse of standard normal distribution. */
+  private static double normalQuantile(double p) {
+
+    double[] a = {
+      -3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+      1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00
+    };
+    double[] b = {
+      -5.447609879822406e+01,
+      1.615858368580409e+02,
+      -1.556989798598866e+02,
+      6.680131188771972e+01,
+      -1.328068155288572e+01
+    };
+    double[] c = {
+      -7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+      -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00
+    };
+    double[] d = {
+      7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00
+    };
+
+    if (p < 0.02425) {
+      double q = Math.sqrt(-2 * Math.log(p));
+      return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+          / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+    }
+    if (p > 1 - 0.02425) {
+      return -normalQuantile(1 - p);
+    }
+    double q = p - 0.5;
+    double r = q * q;
+    return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5])
+        * q
+        / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+  }
+}
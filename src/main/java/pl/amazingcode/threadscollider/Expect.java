@@ -0,0 +1,11 @@
+package pl.amazingcode.threadscollider;
+
+/** Classification of outcome observed by {@link OutcomeCollider}. */
+public enum Expect {
+  /** Outcome allowed by memory model and expected. */
+  ACCEPTABLE,
+  /** Outcome allowed by memory model, but worth attention, e.g. result of reordering. */
+  INTERESTING,
+  /** Outcome which must never happen. */
+  FORBIDDEN
+}
@@ -0,0 +1,92 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * Emits JDK Flight Recorder events of collider lifecycle and of actions of each thread. Events are
+ * emitted by {@code JfrEvents}, which is compiled for Java 11 into {@code META-INF/versions/11} of
+ * multi-release jar and loaded by name only when Flight Recorder is available. On Java 8, and on
+ * JVMs without Flight Recorder, all methods do nothing.
+ *
+ * <p>Events are disabled by default and are recorded only when enabled in recording settings, e.g.
+ * {@code recording.enable("pl.amazingcode.threadscollider.Action")}. Disabled events are not even
+ * created. {@link #barrierReleased(String, int, int)} and {@link #actionStarted(String, int, int)}
+ * are called inside the race window, after release time is recorded. Unless recording enables their
+ * events, each of them costs a call through constant instance and a read of enabled flag of event
+ * type, without allocation.
+ */
+class FlightRecorderEvents {
+
+  private static final FlightRecorderEvents EVENTS = events();
+
+  FlightRecorderEvents() {}
+
+  static void poolCreated(int threads, boolean shared) {
+
+    EVENTS.commitPoolCreated(threads, shared);
+  }
+
+  static void threadReady(String actionName, int party, int round) {
+
+    EVENTS.commitThreadReady(actionName, party, round);
+  }
+
+  static void barrierReleased(String actionName, int party, int round) {
+
+    EVENTS.commitBarrierReleased(actionName, party, round);
+  }
+
+  /** Begins span of actions executed by current thread, returns null when it is not recorded. */
+  static Object actionStarted(String actionName, int party, int round) {
+
+    return EVENTS.beginAction(actionName, party, round);
+  }
+
+  static void actionFinished(Object span, long operations, boolean failed) {
+
+    if (span != null) {
+      EVENTS.commitAction(span, operations, failed);
+    }
+  }
+
+  static void timeoutExceeded(long timeoutNanos, int unfinishedThreads) {
+
+    EVENTS.commitTimeoutExceeded(timeoutNanos, unfinishedThreads);
+  }
+
+  static void deadlockDetected(int deadlockedThreads, int unfinishedThreads) {
+
+    EVENTS.commitDeadlockDetected(deadlockedThreads, unfinishedThreads);
+  }
+
+  void commitPoolCreated(int threads, boolean shared) {}
+
+  void commitThreadReady(String actionName, int party, int round) {}
+
+  void commitBarrierReleased(String actionName, int party, int round) {}
+
+  Object beginAction(String actionName, int party, int round) {
+
+    return null;
+  }
+
+  void commitAction(Object span, long operations, boolean failed) {}
+
+  void commitTimeoutExceeded(long timeoutNanos, int unfinishedThreads) {}
+
+  void commitDeadlockDetected(int deadlockedThreads, int unfinishedThreads) {}
+
+  private static FlightRecorderEvents events() {
+
+    try {
+      Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+      if ((Boolean) flightRecorder.getMethod("isAvailable").invoke(null)) {
+        return (FlightRecorderEvents)
+            Class.forName("pl.amazingcode.threadscollider.JfrEvents")
+                .getDeclaredConstructor()
+                .newInstance();
+      }
+    } catch (ReflectiveOperationException | LinkageError exception) {
+      // Flight Recorder is not available
+    }
+    return new FlightRecorderEvents();
+  }
+}
@@ -0,0 +1,129 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.function.Consumer;
+
+/**
+ * Calls {@link CollisionListener} so that its exceptions do not break collision. Exceptions thrown
+ * in threads of collision are recorded as failures of their parties, and exceptions thrown in
+ * thread calling {@link ThreadsCollider#collide()} are passed to threads exceptions consumer.
+ */
+final class GuardedCollisionListener implements CollisionListener {
+
+  private final CollisionListener listener;
+  private final CollisionRecorder recorder;
+  private final Consumer<Exception> exceptionsConsumer;
+
+  private GuardedCollisionListener(
+      CollisionListener listener,
+      CollisionRecorder recorder,
+      Consumer<Exception> exceptionsConsumer) {
+
+    this.listener = listener;
+    this.recorder = recorder;
+    this.exceptionsConsumer = exceptionsConsumer;
+  }
+
+  static GuardedCollisionListener of(
+      CollisionListener listener,
+      CollisionRecorder recorder,
+      Consumer<Exception> exceptionsConsumer) {
+
+    return new GuardedCollisionListener(listener, recorder, exceptionsConsumer);
+  }
+
+  @Override
+  public void onCollisionStart(int collision) {
+
+    try {
+      listener.onCollisionStart(collision);
+    } catch (Exception exception) {
+      exceptionsConsumer.accept(exception);
+    }
+  }
+
+  @Override
+  public void onThreadReady(String actionName, int party, int collision) {
+
+    try {
+      listener.onThreadReady(actionName, party, collision);
+    } catch (Exception exception) {
+      recorder.failed(party, exception);
+    } catch (Error error) {
+      uncaught(error);
+    }
+  }
+
+  @Override
+  public void onRelease(String actionName, int party, int collision) {
+
+    try {
+      listener.onRelease(actionName, party, collision);
+    } catch (Exception exception) {
+      recorder.failed(party, exception);
+    } catch (Error error) {
+      uncaught(error);
+    }
+  }
+
+  @Override
+  public void onActionStart(String actionName, int party, int collision) {
+
+    try {
+      listener.onActionStart(actionName, party, collision);
+    } catch (Exception exception) {
+      recorder.failed(party, exception);
+    } catch (Error error) {
+      uncaught(error);
+    }
+  }
+
+  @Override
+  public void onActionEnd(String actionName, int party, int collision, long operations) {
+
+    try {
+      listener.onActionEnd(actionName, party, collision, operations);
+    } catch (Exception exception) {
+      recorder.failed(party, exception);
+    } catch (Error error) {
+      uncaught(error);
+    }
+  }
+
+  @Override
+  public void onException(String actionName, int party, int collision, Exception exception) {
+
+    try {
+      listener.onException(actionName, party, collision, exception);
+    } catch (Exception listenerException) {
+      recorder.failed(party, listenerException);
+    } catch (Error error) {
+      uncaught(error);
+    }
+  }
+
+  @Override
+  public void onTimeout(UnfinishedThreads unfinishedThreads) {
+
+    try {
+      listener.onTimeout(unfinishedThreads);
+    } catch (Exception exception) {
+      exceptionsConsumer.accept(exception);
+    }
+  }
+
+  @Override
+  public void onCollisionEnd(CollisionReport report) {
+
+    try {
+      listener.onCollisionEnd(report);
+    } catch (Exception exception) {
+      exceptionsConsumer.accept(exception);
+    }
+  }
+
+  private static void uncaught(Error error) {
+
+    Thread thread = Thread.currentThread();
+    thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+  }
+}
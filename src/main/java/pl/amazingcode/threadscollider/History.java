@@ -0,0 +1,163 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records invocations and responses of operations executed by threads of collider, so that history
+ * can be checked by {@link Linearizability#check(History, SequentialModel)} instead of asserting
+ * final state only. Each thread appends operations to its own buffer and timestamps invocations and
+ * responses with {@link System#nanoTime()}, so threads do not share anything while recording.
+ * Operations of all threads are ordered by these timestamps at check time. Timestamps of each
+ * thread are strictly increasing, and operations of different threads with equal timestamps are
+ * treated as concurrent.
+ *
+ * <pre>{@code
+ * History history = History.newInstance();
+ * threadsCollider()
+ *     .withCallable(() -> history.record("add", 1, () -> set.add(1)))
+ *     .times(2)
+ *     .withCallable(() -> history.record("remove", 1, () -> set.remove(1)))
+ *     .times(2)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Read history with {@link #operations()} after collision. Use {@link #clear()} between
+ * collisions to check each of them separately.
+ */
+public final class History {
+
+  private final ThreadLocal<Buffer> threadBuffer = new ThreadLocal<>();
+  private final List<Buffer> buffers = new ArrayList<>();
+  private volatile int epoch;
+
+  private History() {}
+
+  /**
+   * Creates empty history.
+   *
+   * @return {@link History}
+   */
+  public static History newInstance() {
+
+    return new History();
+  }
+
+  /**
+   * Executes call and records it as operation with given name and argument, and with value returned
+   * by call as result. When call throws exception, operation is recorded as pending and exception
+   * is rethrown.
+   *
+   * @param operation name of operation
+   * @param argument argument of operation, or null
+   * @param call call executing operation on tested object
+   * @param <T> type of result
+   * @return value returned by call
+   */
+  public <T> T record(String operation, Object argument, Supplier<T> call) {
+
+    Buffer buffer = buffer();
+    Operation recorded =
+        Operation.invoked(operation, argument, buffer.threadName, buffer.timestamp());
+    buffer.add(recorded);
+    T result = call.get();
+    recorded.respond(result, buffer.timestamp());
+    return result;
+  }
+
+  /**
+   * Executes call and records it as operation with given name and argument, and with null result.
+   * When call throws exception, operation is recorded as pending and exception is rethrown.
+   *
+   * @param operation name of operation
+   * @param argument argument of operation, or null
+   * @param call call executing operation on tested object
+   */
+  public void record(String operation, Object argument, Runnable call) {
+
+    record(
+        operation,
+        argument,
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+
+  /**
+   * Returns operations recorded by all threads since creation or last {@link #clear()}, ordered by
+   * invocation. Call it after collision, when threads do not record operations anymore.
+   *
+   * @return recorded operations
+   */
+  public synchronized List<Operation> operations() {
+
+    List<Operation> operations = new ArrayList<>();
+    for (Buffer buffer : buffers) {
+      operations.addAll(Arrays.asList(buffer.operations).subList(0, buffer.size));
+    }
+    operations.sort(Comparator.comparingLong(Operation::invokeTime));
+    return operations;
+  }
+
+  /**
+   * Forgets all recorded operations. Call it between collisions, when threads do not record
+   * operations.
+   */
+  public synchronized void clear() {
+
+    epoch++;
+    buffers.clear();
+  }
+
+  private Buffer buffer() {
+
+    Buffer buffer = threadBuffer.get();
+    if (buffer == null || buffer.epoch != epoch) {
+      buffer = register();
+    }
+    return buffer;
+  }
+
+  private synchronized Buffer register() {
+
+    Buffer buffer = new Buffer(epoch, Thread.currentThread().getName());
+    buffers.add(buffer);
+    threadBuffer.set(buffer);
+    return buffer;
+  }
+
+  private static final class Buffer {
+
+    private final int epoch;
+    private final String threadName;
+    private Operation[] operations = new Operation[16];
+    private int size;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    private Buffer(int epoch, String threadName) {
+
+      this.epoch = epoch;
+      this.threadName = threadName;
+    }
+
+    /** Returns current time, but always later than previous timestamp of the same thread. */
+    private long timestamp() {
+
+      long now = System.nanoTime();
+      lastTimestamp = now > lastTimestamp ? now : lastTimestamp + 1;
+      return lastTimestamp;
+    }
+
+    private void add(Operation operation) {
+
+      if (size == operations.length) {
+        operations = Arrays.copyOf(operations, size * 2);
+      }
+      operations[size++] = operation;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/** Invariant polled by observer thread for the whole time colliding actions run. */
+final class Invariant {
+
+  private final Supplier<?> snapshot;
+  private final Predicate<Object> predicate;
+  private final String invariantName;
+
+  private Invariant(Supplier<?> snapshot, Predicate<Object> predicate, String invariantName) {
+
+    this.snapshot = snapshot;
+    this.predicate = predicate;
+    this.invariantName = invariantName;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Invariant of(
+      Supplier<T> snapshot, Predicate<? super T> predicate, String invariantName) {
+
+    if (snapshot == null) {
+      throw new NullPointerException("Invariant snapshot cannot be null.");
+    }
+
+    if (predicate == null) {
+      throw new NullPointerException("Invariant predicate cannot be null.");
+    }
+
+    return new Invariant(snapshot, (Predicate<Object>) predicate, invariantName);
+  }
+
+  /**
+   * Takes snapshot of observed state and tests it.
+   *
+   * @param elapsedNanos time from the start of collision
+   * @param checks number of checks including this one
+   * @return violation or null when invariant holds
+   */
+  InvariantViolation check(long elapsedNanos, long checks) {
+
+    try {
+      Object observed = snapshot.get();
+      return predicate.test(observed)
+          ? null
+          : InvariantViolation.of(invariantName, observed, elapsedNanos, checks, null);
+    } catch (RuntimeException exception) {
+      return InvariantViolation.of(invariantName, null, elapsedNanos, checks, exception);
+    }
+  }
+
+  String invariantName() {
+
+    return invariantName;
+  }
+}
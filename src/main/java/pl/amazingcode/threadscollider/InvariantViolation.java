@@ -0,0 +1,76 @@
+package pl.amazingcode.threadscollider;
+
+import static java.lang.String.format;
+
+/**
+ * Exception reporting the first moment at which invariant registered with {@link
+ * OptionalBuilder#withInvariant(java.util.function.Supplier, java.util.function.Predicate, String)}
+ * did not hold during collision, together with snapshot of observed state.
+ */
+public final class InvariantViolation extends RuntimeException {
+
+  private static final String MESSAGE = "Invariant %s violated after %d ns at check %d by: %s";
+
+  private final String invariantName;
+  private final transient Object snapshot;
+  private final long timeNanos;
+  private final long checks;
+
+  private InvariantViolation(
+      String invariantName, Object snapshot, long timeNanos, long checks, Throwable cause) {
+
+    super(format(MESSAGE, invariantName, timeNanos, checks, snapshot), cause);
+    this.invariantName = invariantName;
+    this.snapshot = snapshot;
+    this.timeNanos = timeNanos;
+    this.checks = checks;
+  }
+
+  static InvariantViolation of(
+      String invariantName, Object snapshot, long timeNanos, long checks, Throwable cause) {
+
+    return new InvariantViolation(invariantName, snapshot, timeNanos, checks, cause);
+  }
+
+  /**
+   * Returns name of violated invariant, or "invariant-N" when invariant has no name, where N is
+   * position of invariant in builder starting from 1.
+   *
+   * @return invariant name
+   */
+  public String invariantName() {
+
+    return invariantName;
+  }
+
+  /**
+   * Returns snapshot of observed state which did not satisfy invariant, or null when taking or
+   * testing snapshot has thrown exception, which is then the cause of violation.
+   *
+   * @return snapshot of observed state
+   */
+  public Object snapshot() {
+
+    return snapshot;
+  }
+
+  /**
+   * Returns time from the start of collision to the moment violating snapshot was taken.
+   *
+   * @return time in nanoseconds
+   */
+  public long timeNanos() {
+
+    return timeNanos;
+  }
+
+  /**
+   * Returns number of checks of invariant during collision, up to and including the violating one.
+   *
+   * @return number of checks
+   */
+  public long checks() {
+
+    return checks;
+  }
+}
@@ -0,0 +1,182 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Log-linear histogram of action latencies in nanoseconds. Latencies below 256 nanoseconds are
+ * recorded exactly, longer ones with relative error below 1%. Latencies longer than {@link
+ * #HIGHEST_TRACKABLE_VALUE} are recorded as {@link #HIGHEST_TRACKABLE_VALUE}.
+ *
+ * <p>Recording does not allocate, so each collider thread records into its own preallocated
+ * histogram and histograms are merged after collision.
+ */
+public final class LatencyHistogram {
+
+  /** The highest latency which can be recorded, about 18 minutes. */
+  public static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+  private static final int LINEAR_BUCKETS = 1 << LINEAR_BITS;
+  private static final int BUCKETS = LINEAR_BUCKETS + (40 - LINEAR_BITS) * SUB_BUCKETS;
+
+  private final long[] counts;
+  private long count;
+  private long sum;
+  private long min;
+  private long max;
+  private int lowestIndex;
+  private int highestIndex;
+
+  LatencyHistogram() {
+
+    this.counts = new long[BUCKETS];
+    reset();
+  }
+
+  void record(long latency) {
+
+    long value = Math.min(Math.max(latency, 0), HIGHEST_TRACKABLE_VALUE);
+    int index = index(value);
+
+    counts[index]++;
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    lowestIndex = Math.min(lowestIndex, index);
+    highestIndex = Math.max(highestIndex, index);
+  }
+
+  void reset() {
+
+    if (lowestIndex <= highestIndex) {
+      Arrays.fill(counts, lowestIndex, highestIndex + 1, 0);
+    }
+    count = 0;
+    sum = 0;
+    min = Long.MAX_VALUE;
+    max = 0;
+    lowestIndex = BUCKETS;
+    highestIndex = -1;
+  }
+
+  void add(LatencyHistogram histogram) {
+
+    for (int index = histogram.lowestIndex; index <= histogram.highestIndex; index++) {
+      counts[index] += histogram.counts[index];
+    }
+    count += histogram.count;
+    sum += histogram.sum;
+    min = Math.min(min, histogram.min);
+    max = Math.max(max, histogram.max);
+    lowestIndex = Math.min(lowestIndex, histogram.lowestIndex);
+    highestIndex = Math.max(highestIndex, histogram.highestIndex);
+  }
+
+  private static int index(long value) {
+
+    if (value < LINEAR_BUCKETS) {
+      return (int) value;
+    }
+
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+    return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+  }
+
+  private static long highestEquivalentValue(int index) {
+
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+
+    int exponent = LINEAR_BITS + (index - LINEAR_BUCKETS) / SUB_BUCKETS;
+    int shift = exponent - SUB_BUCKET_BITS;
+    long subBucket = SUB_BUCKETS + (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Returns number of recorded latencies.
+   *
+   * @return number of recorded latencies
+   */
+  public long count() {
+
+    return count;
+  }
+
+  /**
+   * Returns the lowest recorded latency.
+   *
+   * @return the lowest recorded latency in nanoseconds, 0 when histogram is empty
+   */
+  public long min() {
+
+    return count == 0 ? 0 : min;
+  }
+
+  /**
+   * Returns the highest recorded latency.
+   *
+   * @return the highest recorded latency in nanoseconds, 0 when histogram is empty
+   */
+  public long max() {
+
+    return max;
+  }
+
+  /**
+   * Returns mean of recorded latencies.
+   *
+   * @return mean of recorded latencies in nanoseconds, 0 when histogram is empty
+   */
+  public double mean() {
+
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Returns latency below or equal to which given percentage of recorded latencies fall.
+   *
+   * @param percentile percentile from 0 to 100, e.g. 99.9
+   * @return latency at given percentile in nanoseconds, 0 when histogram is empty
+   */
+  public long valueAtPercentile(double percentile) {
+
+    if (count == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+    long cumulativeCount = 0;
+
+    for (int index = lowestIndex; index <= highestIndex; index++) {
+      cumulativeCount += counts[index];
+      if (cumulativeCount >= rank) {
+        return Math.min(Math.max(highestEquivalentValue(index), min()), max);
+      }
+    }
+    return max;
+  }
+
+  @Override
+  public String toString() {
+
+    return String.format(
+        Locale.ROOT,
+        "[count=%d, min=%dns, mean=%.1fns, p50=%dns, p90=%dns, p99=%dns, p99.9=%dns, max=%dns]",
+        count,
+        min(),
+        mean(),
+        valueAtPercentile(50),
+        valueAtPercentile(90),
+        valueAtPercentile(99),
+        valueAtPercentile(99.9),
+        max);
+  }
+}
@@ -0,0 +1,116 @@
+package pl.amazingcode.threadscollider;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of checking whether operations recorded by {@link History} are linearizable, i.e. whether
+ * each operation appears to take effect at once at some point between its invocation and response,
+ * in order allowed by {@link SequentialModel}.
+ *
+ * <pre>{@code
+ * Linearizability linearizability = Linearizability.check(history, model);
+ * then(linearizability.isLinearizable()).as(linearizability.toString()).isTrue();
+ * }</pre>
+ */
+public final class Linearizability {
+
+  private final Object partition;
+  private final List<Operation> operations;
+  private final List<Operation> longestLinearization;
+
+  private Linearizability(
+      Object partition, List<Operation> operations, List<Operation> longestLinearization) {
+
+    this.partition = partition;
+    this.operations = operations;
+    this.longestLinearization = longestLinearization;
+  }
+
+  /**
+   * Checks operations recorded by history against sequential model. Operations are split by {@link
+   * SequentialModel#partition(Operation)} and each partition is checked separately. Search stops at
+   * the first partition which is not linearizable.
+   *
+   * @param history recorded operations
+   * @param model sequential specification of tested object
+   * @param <S> type of state of model
+   * @return {@link Linearizability}
+   */
+  public static <S> Linearizability check(History history, SequentialModel<S> model) {
+
+    Map<Object, List<Operation>> partitions = new LinkedHashMap<>();
+    for (Operation operation : history.operations()) {
+      partitions
+          .computeIfAbsent(model.partition(operation), ignored -> new ArrayList<>())
+          .add(operation);
+    }
+    for (Map.Entry<Object, List<Operation>> partition : partitions.entrySet()) {
+      LinearizabilityChecker<S> checker = LinearizabilityChecker.of(model, partition.getValue());
+      if (!checker.check()) {
+        return new Linearizability(
+            partition.getKey(),
+            unmodifiableList(partition.getValue()),
+            unmodifiableList(checker.longestLinearization()));
+      }
+    }
+    return new Linearizability(null, emptyList(), emptyList());
+  }
+
+  /**
+   * Returns true when all recorded operations are linearizable.
+   *
+   * @return true when history is linearizable
+   */
+  public boolean isLinearizable() {
+
+    return operations.isEmpty();
+  }
+
+  /**
+   * Returns operations of partition which is not linearizable, ordered by invocation, or empty list
+   * when history is linearizable.
+   *
+   * @return operations of partition which is not linearizable
+   */
+  public List<Operation> operations() {
+
+    return operations;
+  }
+
+  /**
+   * Returns the longest sequence of operations of partition which is not linearizable, which
+   * checker managed to linearize before getting stuck, or empty list when history is linearizable.
+   *
+   * @return the longest linearized sequence of operations
+   */
+  public List<Operation> longestLinearization() {
+
+    return longestLinearization;
+  }
+
+  @Override
+  public String toString() {
+
+    if (isLinearizable()) {
+      return "History is linearizable.";
+    }
+    StringBuilder description =
+        new StringBuilder("History of partition ")
+            .append(partition)
+            .append(" is not linearizable.")
+            .append(System.lineSeparator())
+            .append("Operations:");
+    operations.forEach(
+        operation -> description.append(System.lineSeparator()).append("  ").append(operation));
+    description.append(System.lineSeparator()).append("Longest linearization:");
+    longestLinearization.forEach(
+        operation -> description.append(System.lineSeparator()).append("  ").append(operation));
+    return description.toString();
+  }
+}
@@ -0,0 +1,200 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Wing and Gong search for linearization of history of single partition, with Lowe's cache of
+ * visited pairs of linearized operations and model state. Invocations and responses are kept in
+ * doubly linked list ordered by time, with invocations before responses of the same time, so that
+ * such operations are concurrent. Search linearizes operation by lifting its invocation and
+ * response out of the list, and backtracks when it reaches response of operation which is not
+ * linearized yet.
+ */
+final class LinearizabilityChecker<S> {
+
+  private final SequentialModel<S> model;
+  private final List<Operation> operations;
+  private final Map<BitSet, Set<S>> cache = new HashMap<>();
+  private final List<Operation> longestLinearization = new ArrayList<>();
+
+  private LinearizabilityChecker(SequentialModel<S> model, List<Operation> operations) {
+
+    this.model = model;
+    this.operations = operations;
+  }
+
+  static <S> LinearizabilityChecker<S> of(SequentialModel<S> model, List<Operation> operations) {
+
+    return new LinearizabilityChecker<>(model, operations);
+  }
+
+  boolean check() {
+
+    Entry head = entries();
+    BitSet linearized = new BitSet(operations.size());
+    Deque<Call<S>> calls = new ArrayDeque<>();
+    int remaining = completedOperations();
+    S state = model.initialState();
+    Entry entry = head.next;
+
+    while (remaining > 0) {
+      if (entry.invocation) {
+        Optional<S> next = model.apply(state, entry.operation);
+        if (next.isPresent() && visit(linearized, entry.id, next.get())) {
+          calls.push(new Call<>(entry, state));
+          state = next.get();
+          linearized.set(entry.id);
+          remaining -= entry.match == null ? 0 : 1;
+          entry.lift();
+          rememberLongest(calls);
+          entry = head.next;
+        } else {
+          entry = entry.next;
+        }
+      } else {
+        if (calls.isEmpty()) {
+          return false;
+        }
+        Call<S> call = calls.pop();
+        state = call.state;
+        linearized.clear(call.entry.id);
+        remaining += call.entry.match == null ? 0 : 1;
+        call.entry.unlift();
+        entry = call.entry.next;
+      }
+    }
+    return true;
+  }
+
+  List<Operation> longestLinearization() {
+
+    return longestLinearization;
+  }
+
+  private Entry entries() {
+
+    List<Entry> entries = new ArrayList<>(operations.size() * 2);
+    for (int id = 0; id < operations.size(); id++) {
+      Operation operation = operations.get(id);
+      Entry invocation = new Entry(id, operation, operation.invokeTime(), true);
+      entries.add(invocation);
+      if (!operation.isPending()) {
+        Entry response = new Entry(id, operation, operation.responseTime(), false);
+        invocation.match = response;
+        entries.add(response);
+      }
+    }
+    entries.sort(
+        (left, right) ->
+            left.time != right.time
+                ? Long.compare(left.time, right.time)
+                : Boolean.compare(right.invocation, left.invocation));
+
+    Entry head = new Entry(-1, null, Long.MIN_VALUE, false);
+    Entry previous = head;
+    for (Entry entry : entries) {
+      previous.next = entry;
+      entry.previous = previous;
+      previous = entry;
+    }
+    return head;
+  }
+
+  private int completedOperations() {
+
+    int completed = 0;
+    for (Operation operation : operations) {
+      completed += operation.isPending() ? 0 : 1;
+    }
+    return completed;
+  }
+
+  private boolean visit(BitSet linearized, int id, S state) {
+
+    BitSet key = (BitSet) linearized.clone();
+    key.set(id);
+    return cache.computeIfAbsent(key, ignored -> new HashSet<>()).add(state);
+  }
+
+  private void rememberLongest(Deque<Call<S>> calls) {
+
+    if (calls.size() > longestLinearization.size()) {
+      longestLinearization.clear();
+      calls
+          .descendingIterator()
+          .forEachRemaining(call -> longestLinearization.add(call.entry.operation));
+    }
+  }
+
+  private static final class Entry {
+
+    private final int id;
+    private final Operation operation;
+    private final long time;
+    private final boolean invocation;
+    private Entry match;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(int id, Operation operation, long time, boolean invocation) {
+
+      this.id = id;
+      this.operation = operation;
+      this.time = time;
+      this.invocation = invocation;
+    }
+
+    private void lift() {
+
+      unlink(this);
+      if (match != null) {
+        unlink(match);
+      }
+    }
+
+    private void unlift() {
+
+      if (match != null) {
+        relink(match);
+      }
+      relink(this);
+    }
+
+    private static void unlink(Entry entry) {
+
+      entry.previous.next = entry.next;
+      if (entry.next != null) {
+        entry.next.previous = entry.previous;
+      }
+    }
+
+    private static void relink(Entry entry) {
+
+      entry.previous.next = entry;
+      if (entry.next != null) {
+        entry.next.previous = entry;
+      }
+    }
+  }
+
+  private static final class Call<S> {
+
+    private final Entry entry;
+    private final S state;
+
+    private Call(Entry entry, S state) {
+
+      this.entry = entry;
+      this.state = state;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package pl.amazingcode.threadscollider;
 
+import java.util.concurrent.Callable;
+
 /** Intermediary builder for {@link ThreadsCollider}. */
 public interface MandatoryActionBuilder {
 
@@ -19,4 +21,25 @@ public interface MandatoryActionBuilder {
    * @return {@link TimesBuilder}
    */
   TimesBuilder withAction(Runnable action, String actionName);
+
+  /**
+   * Sets action returning result to be executed. Results are written into slots preallocated for
+   * each thread, so collecting them does not make threads contend. They are reported by {@link
+   * CollisionReport#results()} after collision.
+   *
+   * @param action action to be executed
+   * @return {@link TimesBuilder}
+   */
+  TimesBuilder withCallable(Callable<?> action);
+
+  /**
+   * Sets action returning result to be executed. Results are written into slots preallocated for
+   * each thread, so collecting them does not make threads contend. They are reported by {@link
+   * CollisionReport#results()} after collision.
+   *
+   * @param action action to be executed
+   * @param actionName description of action used when reporting deadlocked threads and results.
+   * @return {@link TimesBuilder}
+   */
+  TimesBuilder withCallable(Callable<?> action, String actionName);
 }
@@ -0,0 +1,114 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * Operation recorded by {@link History}: its name, argument and result, together with times of its
+ * invocation and response, which order operations of all threads.
+ */
+public final class Operation {
+
+  static final long PENDING = Long.MAX_VALUE;
+
+  private final String name;
+  private final Object argument;
+  private final String threadName;
+  private final long invokeTime;
+  private Object result;
+  private long responseTime = PENDING;
+
+  private Operation(String name, Object argument, String threadName, long invokeTime) {
+
+    this.name = name;
+    this.argument = argument;
+    this.threadName = threadName;
+    this.invokeTime = invokeTime;
+  }
+
+  static Operation invoked(String name, Object argument, String threadName, long invokeTime) {
+
+    return new Operation(name, argument, threadName, invokeTime);
+  }
+
+  void respond(Object result, long responseTime) {
+
+    this.result = result;
+    this.responseTime = responseTime;
+  }
+
+  /**
+   * Returns name of operation.
+   *
+   * @return operation name
+   */
+  public String name() {
+
+    return name;
+  }
+
+  /**
+   * Returns argument of operation, or null when operation has no argument.
+   *
+   * @return operation argument
+   */
+  public Object argument() {
+
+    return argument;
+  }
+
+  /**
+   * Returns result of operation, or null when operation returned nothing or is pending.
+   *
+   * @return operation result
+   */
+  public Object result() {
+
+    return result;
+  }
+
+  /**
+   * Returns name of thread which invoked operation.
+   *
+   * @return thread name
+   */
+  public String threadName() {
+
+    return threadName;
+  }
+
+  /**
+   * Returns true when operation has no response, because it has thrown exception. Pending operation
+   * may or may not have taken effect, so checker is free to linearize it or to leave it out.
+   *
+   * @return true when operation is pending
+   */
+  public boolean isPending() {
+
+    return responseTime == PENDING;
+  }
+
+  long invokeTime() {
+
+    return invokeTime;
+  }
+
+  long responseTime() {
+
+    return responseTime;
+  }
+
+  @Override
+  public String toString() {
+
+    return threadName
+        + ": "
+        + name
+        + "("
+        + (argument == null ? "" : argument)
+        + ") -> "
+        + (isPending() ? "pending" : result)
+        + " ["
+        + invokeTime
+        + ", "
+        + (isPending() ? "..." : responseTime)
+        + "]";
+  }
+}
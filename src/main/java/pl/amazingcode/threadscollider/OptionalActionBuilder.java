@@ -1,6 +1,10 @@
 package pl.amazingcode.threadscollider;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /** Intermediary builder for {@link ThreadsCollider}. */
 public interface OptionalActionBuilder {
@@ -22,6 +26,27 @@ public interface OptionalActionBuilder {
    */
   TimesBuilder withAction(Runnable action, String actionName);
 
+  /**
+   * Sets action returning result to be executed. Results are written into slots preallocated for
+   * each thread, so collecting them does not make threads contend. They are reported by {@link
+   * CollisionReport#results()} after collision.
+   *
+   * @param action action to be executed
+   * @return {@link TimesBuilder}
+   */
+  TimesBuilder withCallable(Callable<?> action);
+
+  /**
+   * Sets action returning result to be executed. Results are written into slots preallocated for
+   * each thread, so collecting them does not make threads contend. They are reported by {@link
+   * CollisionReport#results()} after collision.
+   *
+   * @param action action to be executed
+   * @param actionName description of action used when reporting deadlocked threads and results.
+   * @return {@link TimesBuilder}
+   */
+  TimesBuilder withCallable(Callable<?> action, String actionName);
+
   /**
    * Sets await termination timeout for executor service used by {@link ThreadsCollider}.
    *
@@ -32,13 +57,173 @@ public interface OptionalActionBuilder {
 
   /**
    * Sets exception consumer for threads. This consumer will be called for each exception thrown by
-   * threads. Consumer will be called in thread safe manner.
+   * threads. Exceptions are collected from threads after collision and consumer is called by thread
+   * calling {@link ThreadsCollider#collide()}, so it does not have to be thread safe. Exceptions
+   * with action and thread names are also reported by {@link CollisionReport#failures()}.
    *
    * @param threadsExceptionsConsumer - exception consumer for threads.
    * @return {@link OptionalBuilder}
    */
   OptionalBuilder withThreadsExceptionsConsumer(Consumer<Exception> threadsExceptionsConsumer);
 
+  /**
+   * Sets strategy used to hold started threads and release them at once. Default is {@link
+   * StartBarrier#ADAPTIVE}, or {@link StartBarrier#SPIN_PARK} when {@link #withVirtualThreads()} is
+   * used.
+   *
+   * @param startBarrier strategy used to hold started threads and release them at once
+   * @return {@link OptionalBuilder}
+   */
+  OptionalBuilder withStartBarrier(StartBarrier startBarrier);
+
+  /**
+   * Runs actions on virtual threads instead of platform threads. Allows to collide thousands of
+   * threads executing blocking code with a fraction of memory. Virtual threads should wait on
+   * parking {@link StartBarrier}, because spinning virtual threads occupy all carrier threads and
+   * the others may never get to the barrier.
+   *
+   * @return {@link OptionalBuilder}
+   * @throws UnsupportedOperationException when running on Java older than 21
+   */
+  OptionalBuilder withVirtualThreads();
+
+  /**
+   * Runs each action in a loop for given number of iterations instead of once. All threads are
+   * released at once and {@link CollisionReport#throughput()} reports how fast they executed their
+   * actions. Thread stops its loop on the first exception thrown by action.
+   *
+   * @param iterations number of times each thread executes its action during single collision
+   * @return {@link OptionalBuilder}
+   * @throws InvalidActionRepetitionCount when iterations is lower than 1
+   */
+  OptionalBuilder withIterations(int iterations);
+
+  /**
+   * Runs each action in a loop for given duration instead of once. All threads are released at once
+   * and {@link CollisionReport#throughput()} reports how fast they executed their actions. Thread
+   * stops its loop on the first exception thrown by action. Await termination timeout starts
+   * counting after the duration.
+   *
+   * @param duration time for which each thread repeats its action during single collision
+   * @param timeUnit duration time unit
+   * @return {@link OptionalBuilder}
+   * @throws IllegalArgumentException when duration is not positive
+   */
+  OptionalBuilder withDuration(long duration, TimeUnit timeUnit);
+
+  /**
+   * Times every execution of action and records it into histogram preallocated for each thread.
+   * Histograms are merged after collision and reported by {@link
+   * CollisionReport#actionLatencies()}. Most useful together with {@link #withIterations(int)} or
+   * {@link #withDuration(long, TimeUnit)}.
+   *
+   * @return {@link OptionalBuilder}
+   */
+  OptionalBuilder withLatencyHistograms();
+
+  /**
+   * Borrows threads from given pool instead of creating them. Threads are borrowed by the first
+   * collision and returned when collider is closed. Use {@link ColliderPool#shared()} to share warm
+   * threads between all colliders in JVM. Cannot be used together with {@link
+   * #withVirtualThreads()}.
+   *
+   * @param colliderPool pool of threads to borrow from
+   * @return {@link OptionalBuilder}
+   */
+  OptionalBuilder withColliderPool(ColliderPool colliderPool);
+
+  /**
+   * Enables watchdog, which looks for deadlocked threads of collider every given interval while
+   * waiting for threads to finish. When deadlock is found, collision fails at once with {@link
+   * UnfinishedThreads} listing deadlocked threads, instead of waiting for the whole timeout, and
+   * {@link ThreadsCollider#close()} does not wait for deadlocked threads. Disabled by default.
+   *
+   * @param interval interval between looking for deadlocks
+   * @param timeUnit time unit of interval
+   * @return {@link OptionalBuilder}
+   * @throws IllegalArgumentException when interval is not positive
+   */
+  OptionalBuilder withDeadlockWatchdog(long interval, TimeUnit timeUnit);
+
+  /**
+   * Enables randomized delays at {@link Collision#point()} placed in code under test. During
+   * collision each thread of collider gets its own sequence of delays drawn from generator seeded
+   * with given seed, thread and round, so failing collision can be repeated with the same delays.
+   * Threads of colliders without collision points and threads outside collision are not delayed.
+   *
+   * @param seed seed of randomized delays
+   * @return {@link OptionalBuilder}
+   */
+  OptionalBuilder withCollisionPoints(long seed);
+
+  /**
+   * Enables thread contention monitoring of JVM and reports, for each action, how many times and
+   * for how long its threads were blocked on monitors and waited during collision, by {@link
+   * CollisionReport#actionContention()}. Each thread reads its statistics right after it is
+   * released by start barrier and when it finishes its actions. Reading them builds {@link
+   * java.lang.management.ThreadInfo} inside the race window, which delays start of actions of each
+   * thread and spreads collision out, so enable it to diagnose slow collisions rather than to hunt
+   * races. Monitoring stays enabled for the whole JVM. Not reported for virtual threads.
+   *
+   * @return {@link OptionalBuilder}
+   * @throws UnsupportedOperationException when JVM does not support thread contention monitoring,
+   *     thrown by {@link #build()}
+   */
+  OptionalBuilder withContentionMonitoring();
+
+  /**
+   * Reports, for each action, CPU time consumed and bytes allocated by its threads from release
+   * from the start barrier to the end of their actions, by {@link
+   * CollisionReport#actionResourceUsage()}. Compared with durations of actions, it tells whether
+   * action slowed down under contention because it waited or because it did more work, e.g. retried
+   * compare-and-set. Allocated bytes are measured only on JVMs providing {@code
+   * com.sun.management.ThreadMXBean}.
+   *
+   * @return {@link OptionalBuilder}
+   * @throws UnsupportedOperationException when JVM does not support measuring CPU time of threads,
+   *     thrown by {@link #build()}
+   */
+  OptionalBuilder withResourceUsage();
+
+  /**
+   * Registers listener of phases of collision, e.g. to feed metrics or tracing. Listeners are
+   * called in order in which they were registered. Listener is called by threads of collision
+   * inside the race window, so it should neither allocate nor block, see {@link CollisionListener}.
+   *
+   * @param listener listener of collision
+   * @return {@link OptionalBuilder}
+   * @throws NullPointerException when listener is null
+   */
+  OptionalBuilder withCollisionListener(CollisionListener listener);
+
+  /**
+   * Registers invariant checked by observer thread for the whole time actions run. Observer is
+   * released by the same start barrier as actions, but is not counted as their thread. It takes
+   * snapshot of observed state and tests it in a tight loop until all actions finish, and once more
+   * afterwards, so it catches transient violations missed by assertions on final state. The first
+   * violation of each invariant is reported by {@link CollisionReport#invariantViolations()} and
+   * passed to exceptions consumer as {@link InvariantViolation}.
+   *
+   * @param snapshot takes snapshot of observed state, e.g. reads size counter
+   * @param invariant predicate which has to hold for every snapshot
+   * @param <T> type of snapshot
+   * @return {@link OptionalBuilder}
+   */
+  <T> OptionalBuilder withInvariant(Supplier<T> snapshot, Predicate<? super T> invariant);
+
+  /**
+   * Registers named invariant checked by observer thread for the whole time actions run. See {@link
+   * #withInvariant(Supplier, Predicate)}.
+   *
+   * @param snapshot takes snapshot of observed state, e.g. reads size counter
+   * @param invariant predicate which has to hold for every snapshot
+   * @param invariantName name of invariant used in thread name and in reported violation
+   * @param <T> type of snapshot
+   * @return {@link OptionalBuilder}
+   */
+  <T> OptionalBuilder withInvariant(
+      Supplier<T> snapshot, Predicate<? super T> invariant, String invariantName);
+
   /**
    * Builds {@link ThreadsCollider}.
    *
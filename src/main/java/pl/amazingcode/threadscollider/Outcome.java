@@ -0,0 +1,133 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * Encodes tuple of up to four small integers observed by actors into single long, so that outcomes
+ * are computed and counted without allocation. Each value has to be between {@link #MIN_VALUE} and
+ * {@link #MAX_VALUE}.
+ */
+public final class Outcome {
+
+  /** The lowest value of outcome tuple. */
+  public static final int MIN_VALUE = -(1 << 14);
+
+  /** The highest value of outcome tuple. */
+  public static final int MAX_VALUE = (1 << 14) - 1;
+
+  private static final int BITS = 15;
+  private static final long MASK = (1L << BITS) - 1;
+  private static final int ARITY_SHIFT = 60;
+
+  private Outcome() {}
+
+  /**
+   * Encodes outcome of single value.
+   *
+   * @param r1 observed value
+   * @return encoded outcome
+   */
+  public static long of(int r1) {
+
+    return encode(1, r1, 0, 0, 0);
+  }
+
+  /**
+   * Encodes outcome of two values.
+   *
+   * @param r1 first observed value
+   * @param r2 second observed value
+   * @return encoded outcome
+   */
+  public static long of(int r1, int r2) {
+
+    return encode(2, r1, r2, 0, 0);
+  }
+
+  /**
+   * Encodes outcome of three values.
+   *
+   * @param r1 first observed value
+   * @param r2 second observed value
+   * @param r3 third observed value
+   * @return encoded outcome
+   */
+  public static long of(int r1, int r2, int r3) {
+
+    return encode(3, r1, r2, r3, 0);
+  }
+
+  /**
+   * Encodes outcome of four values.
+   *
+   * @param r1 first observed value
+   * @param r2 second observed value
+   * @param r3 third observed value
+   * @param r4 fourth observed value
+   * @return encoded outcome
+   */
+  public static long of(int r1, int r2, int r3, int r4) {
+
+    return encode(4, r1, r2, r3, r4);
+  }
+
+  /**
+   * Returns value of encoded outcome at given index.
+   *
+   * @param outcome encoded outcome
+   * @param index index of value, from 0
+   * @return value
+   */
+  public static int value(long outcome, int index) {
+
+    int bits = (int) ((outcome >>> (index * BITS)) & MASK);
+    return (bits << (32 - BITS)) >> (32 - BITS);
+  }
+
+  /**
+   * Returns number of values of encoded outcome.
+   *
+   * @param outcome encoded outcome
+   * @return number of values, from 1 to 4
+   */
+  public static int arity(long outcome) {
+
+    return (int) (outcome >>> ARITY_SHIFT);
+  }
+
+  /**
+   * Formats encoded outcome as comma separated values, e.g. "1, 0".
+   *
+   * @param outcome encoded outcome
+   * @return formatted outcome
+   */
+  public static String toString(long outcome) {
+
+    StringBuilder values = new StringBuilder();
+    for (int index = 0; index < arity(outcome); index++) {
+      if (index > 0) {
+        values.append(", ");
+      }
+      values.append(value(outcome, index));
+    }
+    return values.toString();
+  }
+
+  private static long encode(int arity, int r1, int r2, int r3, int r4) {
+
+    return ((long) arity << ARITY_SHIFT)
+        | bits(r1)
+        | bits(r2) << BITS
+        | bits(r3) << (2 * BITS)
+        | bits(r4) << (3 * BITS);
+  }
+
+  private static long bits(int value) {
+
+    if (value < MIN_VALUE || value > MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Outcome value has to be between %d and %d, but was %d.",
+              MIN_VALUE, MAX_VALUE, value));
+    }
+    return value & MASK;
+  }
+}
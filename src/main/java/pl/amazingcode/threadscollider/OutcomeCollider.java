@@ -0,0 +1,221 @@
+package pl.amazingcode.threadscollider;
+
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs actors concurrently on fresh state millions of times and counts outcomes they observe, like
+ * jcstress, to find memory visibility issues such as unsafe publication or reordering.
+ *
+ * <pre>{@code
+ * OutcomeHistogram histogram =
+ *     OutcomeCollider.of(Publication::new)
+ *         .withActor(state -> { state.x = 1; state.ready = true; })
+ *         .withActor(state -> { state.r1 = state.ready ? 1 : 0; state.r2 = state.x; })
+ *         .withOutcome(state -> Outcome.of(state.r1, state.r2))
+ *         .expect(Outcome.of(0, 0), Expect.ACCEPTABLE, "not published yet")
+ *         .expect(Outcome.of(0, 1), Expect.ACCEPTABLE, "published, flag not seen yet")
+ *         .expect(Outcome.of(1, 1), Expect.ACCEPTABLE, "published")
+ *         .expect(Outcome.of(1, 0), Expect.FORBIDDEN, "flag seen before value")
+ *         .run(1_000_000);
+ * }</pre>
+ *
+ * <p>Each actor runs on its own thread of {@link ThreadsCollider}. States of the whole stride are
+ * allocated before threads are released, and actors walk through them without any synchronization
+ * or allocation of harness. After actors finish, arbiter and outcome function are applied to each
+ * state by calling thread and outcomes are counted in primitive counters, so the harness does not
+ * perturb memory effects being observed.
+ *
+ * @param <S> type of state shared by actors in single round
+ */
+public final class OutcomeCollider<S> {
+
+  private static final int DEFAULT_STRIDE = 1_000;
+
+  private final Supplier<S> stateFactory;
+  private final List<Consumer<S>> actors = new ArrayList<>();
+  private final Map<Long, OutcomeHistogram.Expectation> expectations = new LinkedHashMap<>();
+  private OutcomeHistogram.Expectation otherOutcomes =
+      OutcomeHistogram.Expectation.of(Expect.FORBIDDEN, "unexpected outcome");
+  private Consumer<S> arbiter = state -> {};
+  private ToLongFunction<S> outcome;
+  private int stride = DEFAULT_STRIDE;
+
+  private OutcomeCollider(Supplier<S> stateFactory) {
+
+    this.stateFactory = stateFactory;
+  }
+
+  /**
+   * Creates outcome collider with factory of state shared by actors in single round.
+   *
+   * @param stateFactory creates fresh state for each round
+   * @param <S> type of state
+   * @return {@link OutcomeCollider}
+   */
+  public static <S> OutcomeCollider<S> of(Supplier<S> stateFactory) {
+
+    return new OutcomeCollider<>(stateFactory);
+  }
+
+  /**
+   * Adds actor executed on its own thread, concurrently with other actors, once for each round.
+   *
+   * @param actor operations of actor on state of round
+   * @return {@link OutcomeCollider}
+   */
+  public OutcomeCollider<S> withActor(Consumer<S> actor) {
+
+    actors.add(actor);
+    return this;
+  }
+
+  /**
+   * Sets arbiter executed after all actors of round have finished, e.g. to read final state.
+   *
+   * @param arbiter operations on state after actors
+   * @return {@link OutcomeCollider}
+   */
+  public OutcomeCollider<S> withArbiter(Consumer<S> arbiter) {
+
+    this.arbiter = arbiter;
+    return this;
+  }
+
+  /**
+   * Sets function encoding outcome of round with {@link Outcome#of(int, int)} and its overloads.
+   *
+   * @param outcome encodes outcome observed in state after actors and arbiter
+   * @return {@link OutcomeCollider}
+   */
+  public OutcomeCollider<S> withOutcome(ToLongFunction<S> outcome) {
+
+    this.outcome = outcome;
+    return this;
+  }
+
+  /**
+   * Classifies given outcome.
+   *
+   * @param outcome encoded outcome
+   * @param expect classification of outcome
+   * @param description description of outcome
+   * @return {@link OutcomeCollider}
+   */
+  public OutcomeCollider<S> expect(long outcome, Expect expect, String description) {
+
+    expectations.put(outcome, OutcomeHistogram.Expectation.of(expect, description));
+    return this;
+  }
+
+  /**
+   * Classifies outcomes not classified by {@link #expect(long, Expect, String)}. By default they
+   * are {@link Expect#FORBIDDEN}.
+   *
+   * @param expect classification of other outcomes
+   * @param description description of other outcomes
+   * @return {@link OutcomeCollider}
+   */
+  public OutcomeCollider<S> expectOthers(Expect expect, String description) {
+
+    this.otherOutcomes = OutcomeHistogram.Expectation.of(expect, description);
+    return this;
+  }
+
+  /**
+   * Sets number of rounds executed by actors in single collision. Longer stride amortizes cost of
+   * releasing threads, shorter one keeps actors closer to each other. Default is 1000.
+   *
+   * @param stride number of rounds of single collision
+   * @return {@link OutcomeCollider}
+   * @throws IllegalArgumentException when stride is not positive
+   */
+  public OutcomeCollider<S> withStride(int stride) {
+
+    if (stride < 1) {
+      throw new IllegalArgumentException(
+          String.format("Stride has to be positive, but was %d.", stride));
+    }
+
+    this.stride = stride;
+    return this;
+  }
+
+  /**
+   * Runs given number of rounds and counts their outcomes.
+   *
+   * @param rounds number of rounds
+   * @return {@link OutcomeHistogram}
+   * @throws IllegalArgumentException when rounds is not positive
+   * @throws IllegalStateException when there are less than two actors or no outcome function
+   * @throws ThreadsColliderFailure when actor throws exception or does not finish
+   */
+  @SuppressWarnings("unchecked")
+  public OutcomeHistogram run(long rounds) {
+
+    if (rounds < 1) {
+      throw new IllegalArgumentException(
+          String.format("Rounds have to be positive, but were %d.", rounds));
+    }
+
+    if (actors.size() < 2) {
+      throw new IllegalStateException("Outcome collider needs at least two actors.");
+    }
+
+    if (outcome == null) {
+      throw new IllegalStateException("Outcome collider needs outcome function.");
+    }
+
+    Object[][] batch = new Object[1][];
+    List<Exception> exceptions = new ArrayList<>();
+    OutcomeCounters counters = new OutcomeCounters();
+
+    OptionalActionBuilder builder = null;
+    for (Consumer<S> actor : actors) {
+      Runnable action =
+          () -> {
+            Object[] states = batch[0];
+            for (Object state : states) {
+              actor.accept((S) state);
+            }
+          };
+      builder =
+          builder == null
+              ? threadsCollider().withAction(action).times(1)
+              : builder.withAction(action).times(1);
+    }
+
+    try (ThreadsCollider threadsCollider =
+        builder.withThreadsExceptionsConsumer(exceptions::add).build()) {
+
+      long done = 0;
+      while (done < rounds) {
+        Object[] states = new Object[(int) Math.min(stride, rounds - done)];
+        for (int round = 0; round < states.length; round++) {
+          states[round] = stateFactory.get();
+        }
+        batch[0] = states;
+
+        threadsCollider.collide();
+        if (!exceptions.isEmpty()) {
+          throw ThreadsColliderFailure.from(exceptions.get(0));
+        }
+
+        for (Object state : states) {
+          arbiter.accept((S) state);
+          counters.increment(outcome.applyAsLong((S) state));
+        }
+        done += states.length;
+      }
+    }
+
+    return OutcomeHistogram.of(rounds, counters, new LinkedHashMap<>(expectations), otherOutcomes);
+  }
+}
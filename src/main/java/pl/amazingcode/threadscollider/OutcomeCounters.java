@@ -0,0 +1,76 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Arrays;
+
+/**
+ * Counts of encoded outcomes in open addressing table of primitive longs. Counting does not
+ * allocate, unless table grows when new outcome appears.
+ */
+final class OutcomeCounters {
+
+  private static final long EMPTY = 0;
+
+  private long[] outcomes = new long[16];
+  private long[] counts = new long[16];
+  private int size;
+
+  /** Adds one to count of given outcome. Encoded outcomes are never 0, which marks empty slot. */
+  void increment(long outcome) {
+
+    int slot = slot(outcomes, outcome);
+    if (outcomes[slot] == EMPTY) {
+      outcomes[slot] = outcome;
+      if (++size * 2 > outcomes.length) {
+        grow();
+        slot = slot(outcomes, outcome);
+      }
+    }
+    counts[slot]++;
+  }
+
+  long count(long outcome) {
+
+    int slot = slot(outcomes, outcome);
+    return outcomes[slot] == EMPTY ? 0 : counts[slot];
+  }
+
+  /** Returns counted outcomes in ascending order. */
+  long[] outcomes() {
+
+    long[] counted = new long[size];
+    int index = 0;
+    for (long outcome : outcomes) {
+      if (outcome != EMPTY) {
+        counted[index++] = outcome;
+      }
+    }
+    Arrays.sort(counted);
+    return counted;
+  }
+
+  private void grow() {
+
+    long[] oldOutcomes = outcomes;
+    long[] oldCounts = counts;
+    outcomes = new long[oldOutcomes.length * 2];
+    counts = new long[oldCounts.length * 2];
+    for (int slot = 0; slot < oldOutcomes.length; slot++) {
+      if (oldOutcomes[slot] != EMPTY) {
+        int newSlot = slot(outcomes, oldOutcomes[slot]);
+        outcomes[newSlot] = oldOutcomes[slot];
+        counts[newSlot] = oldCounts[slot];
+      }
+    }
+  }
+
+  private static int slot(long[] outcomes, long outcome) {
+
+    int mask = outcomes.length - 1;
+    long hash = outcome * 0x9E3779B97F4A7C15L;
+    int slot = (int) (hash ^ (hash >>> 32)) & mask;
+    while (outcomes[slot] != EMPTY && outcomes[slot] != outcome) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+}
@@ -0,0 +1,147 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+/** Counts of outcomes observed by {@link OutcomeCollider}, with their classification. */
+public final class OutcomeHistogram {
+
+  private final long rounds;
+  private final OutcomeCounters counters;
+  private final Map<Long, Expectation> expectations;
+  private final Expectation otherOutcomes;
+
+  private OutcomeHistogram(
+      long rounds,
+      OutcomeCounters counters,
+      Map<Long, Expectation> expectations,
+      Expectation otherOutcomes) {
+
+    this.rounds = rounds;
+    this.counters = counters;
+    this.expectations = expectations;
+    this.otherOutcomes = otherOutcomes;
+  }
+
+  static OutcomeHistogram of(
+      long rounds,
+      OutcomeCounters counters,
+      Map<Long, Expectation> expectations,
+      Expectation otherOutcomes) {
+
+    return new OutcomeHistogram(rounds, counters, expectations, otherOutcomes);
+  }
+
+  /**
+   * Returns number of executed rounds.
+   *
+   * @return number of rounds
+   */
+  public long rounds() {
+
+    return rounds;
+  }
+
+  /**
+   * Returns observed outcomes in ascending order of their encoding.
+   *
+   * @return encoded outcomes
+   */
+  public long[] outcomes() {
+
+    return counters.outcomes();
+  }
+
+  /**
+   * Returns how many times given outcome was observed.
+   *
+   * @param outcome encoded outcome
+   * @return count of outcome
+   */
+  public long count(long outcome) {
+
+    return counters.count(outcome);
+  }
+
+  /**
+   * Returns how many times outcomes of given classification were observed.
+   *
+   * @param expect classification
+   * @return count of outcomes
+   */
+  public long count(Expect expect) {
+
+    return Arrays.stream(counters.outcomes())
+        .filter(outcome -> expect(outcome) == expect)
+        .map(counters::count)
+        .sum();
+  }
+
+  /**
+   * Returns classification of given outcome.
+   *
+   * @param outcome encoded outcome
+   * @return classification of outcome
+   */
+  public Expect expect(long outcome) {
+
+    return expectation(outcome).expect;
+  }
+
+  /**
+   * Returns true when any forbidden outcome was observed.
+   *
+   * @return true when forbidden outcome was observed
+   */
+  public boolean hasForbidden() {
+
+    return count(Expect.FORBIDDEN) > 0;
+  }
+
+  @Override
+  public String toString() {
+
+    TreeSet<Long> outcomes = new TreeSet<>(expectations.keySet());
+    Arrays.stream(counters.outcomes()).forEach(outcomes::add);
+
+    StringBuilder table =
+        new StringBuilder(
+            String.format("%-16s %12s  %-12s %s", "Outcome", "Count", "Expect", "Description"));
+    for (long outcome : outcomes) {
+      Expectation expectation = expectation(outcome);
+      table
+          .append(System.lineSeparator())
+          .append(
+              String.format(
+                  "%-16s %12d  %-12s %s",
+                  Outcome.toString(outcome),
+                  counters.count(outcome),
+                  expectation.expect,
+                  expectation.description));
+    }
+    return table.toString();
+  }
+
+  private Expectation expectation(long outcome) {
+
+    return expectations.getOrDefault(outcome, otherOutcomes);
+  }
+
+  static final class Expectation {
+
+    private final Expect expect;
+    private final String description;
+
+    private Expectation(Expect expect, String description) {
+
+      this.expect = expect;
+      this.description = description;
+    }
+
+    static Expectation of(Expect expect, String description) {
+
+      return new Expectation(expect, description);
+    }
+  }
+}
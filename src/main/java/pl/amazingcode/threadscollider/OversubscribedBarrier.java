@@ -0,0 +1,73 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barrier for more threads than available processors. Spinning threads would take processors from
+ * threads which have not arrived yet, so threads park until all of them are ready. Then all of them
+ * are woken up and spin, yielding processor to each other, until the last one is running. Only then
+ * they are released, so release does not wait for parked threads to be scheduled.
+ */
+final class OversubscribedBarrier extends Barrier {
+
+  private final AtomicInteger readyThreadsCount;
+  private final AtomicInteger spinningThreadsCount;
+  private volatile Thread releasingThread;
+  private volatile int readyRound;
+  private volatile int releasedRound;
+
+  OversubscribedBarrier(int parties) {
+
+    super(parties);
+    this.readyThreadsCount = new AtomicInteger(0);
+    this.spinningThreadsCount = new AtomicInteger(0);
+  }
+
+  @Override
+  void release(int round) {
+
+    releasingThread = Thread.currentThread();
+
+    while (readyThreadsCount.get() < parties()) {
+      LockSupport.park(this);
+    }
+
+    readyThreadsCount.set(0);
+    readyRound = round;
+    unparkAll();
+
+    while (spinningThreadsCount.get() < parties()) {
+      Thread.yield();
+    }
+
+    spinningThreadsCount.set(0);
+    releasedRound = round;
+  }
+
+  @Override
+  void awaitRelease(int party, int round) {
+
+    if (readyThreadsCount.incrementAndGet() == parties()) {
+      LockSupport.unpark(releasingThread);
+    }
+
+    while (readyRound < round) {
+      LockSupport.park(this);
+    }
+
+    spinningThreadsCount.incrementAndGet();
+
+    while (releasedRound < round) {
+      Thread.yield();
+    }
+  }
+
+  @Override
+  void abort() {
+
+    readyRound = Integer.MAX_VALUE;
+    releasedRound = Integer.MAX_VALUE;
+    LockSupport.unpark(releasingThread);
+  }
+}
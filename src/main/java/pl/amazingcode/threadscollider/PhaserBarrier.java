@@ -0,0 +1,32 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.Phaser;
+
+final class PhaserBarrier extends Barrier {
+
+  private final Phaser phaser;
+
+  PhaserBarrier(int parties) {
+
+    super(parties);
+    this.phaser = new Phaser(parties + 1);
+  }
+
+  @Override
+  void release(int round) {
+
+    phaser.arriveAndAwaitAdvance();
+  }
+
+  @Override
+  void awaitRelease(int party, int round) {
+
+    phaser.arriveAndAwaitAdvance();
+  }
+
+  @Override
+  void abort() {
+
+    phaser.forceTermination();
+  }
+}
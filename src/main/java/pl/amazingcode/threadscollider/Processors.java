@@ -1,9 +1,15 @@
 package pl.amazingcode.threadscollider;
 
-/** Number of processors available to the Java virtual machine. */
+import java.nio.file.Paths;
+
+/**
+ * Number of processors available to the Java virtual machine. {@link #ALL} is the number reported
+ * by JVM, which older JVMs do not limit by CPU quota of container. {@link #USABLE} is the number of
+ * threads which can really run at the same time, and so busy spin without being time sliced.
+ */
 public final class Processors {
 
-  /** Use all available processors. */
+  /** Use all available processors, as reported by JVM. */
   public static final int ALL = Runtime.getRuntime().availableProcessors();
 
   /** Use half of available processors. */
@@ -14,4 +20,12 @@ public final class Processors {
 
   /** Use one quarter of available processors. */
   public static final int ONE_QUARTER = ALL / 4;
+
+  /**
+   * Use processors which threads can run on at the same time: available processors limited by CFS
+   * quota ({@code cpu.max} or {@code cpu.cfs_quota_us}) rounded up and by cpuset of Linux control
+   * group, both cgroup v1 and v2. E.g. 2 on 64 cores container limited to 2 CPUs. Same as {@link
+   * #ALL} when there are no limits or on other systems.
+   */
+  public static final int USABLE = CgroupCpuLimits.usableProcessors(ALL, Paths.get("/"));
 }
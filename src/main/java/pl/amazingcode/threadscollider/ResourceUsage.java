@@ -0,0 +1,50 @@
+package pl.amazingcode.threadscollider;
+
+/**
+ * CPU time consumed and bytes allocated by threads of action during collision, reported by {@link
+ * CollisionReport#actionResourceUsage()}. Action which became slower under contention while using
+ * more CPU time did more work, e.g. retried failed compare-and-set, while action which used the
+ * same CPU time waited.
+ */
+public final class ResourceUsage {
+
+  private final long cpuTimeNanos;
+  private final long allocatedBytes;
+
+  private ResourceUsage(long cpuTimeNanos, long allocatedBytes) {
+
+    this.cpuTimeNanos = cpuTimeNanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  static ResourceUsage of(long cpuTimeNanos, long allocatedBytes) {
+
+    return new ResourceUsage(cpuTimeNanos, allocatedBytes);
+  }
+
+  /**
+   * Returns CPU time consumed by threads of action.
+   *
+   * @return CPU time in nanoseconds, or -1 when not measured by JVM, e.g. for virtual threads
+   */
+  public long cpuTimeNanos() {
+
+    return cpuTimeNanos;
+  }
+
+  /**
+   * Returns bytes allocated in heap by threads of action.
+   *
+   * @return allocated bytes, or -1 when not measured by JVM
+   */
+  public long allocatedBytes() {
+
+    return allocatedBytes;
+  }
+
+  @Override
+  public String toString() {
+
+    return "ResourceUsage[cpuTime=" + cpuTimeNanos + "ns, allocated=" + allocatedBytes + "B]";
+  }
+}
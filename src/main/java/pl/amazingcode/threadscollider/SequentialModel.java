@@ -0,0 +1,44 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Optional;
+
+/**
+ * Sequential specification of tested object, used by {@link Linearizability#check(History,
+ * SequentialModel)}. States should be immutable and implement {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}, because checker caches visited states to prune its search.
+ *
+ * @param <S> type of state of model
+ */
+public interface SequentialModel<S> {
+
+  /**
+   * Returns state of tested object before the first operation.
+   *
+   * @return initial state
+   */
+  S initialState();
+
+  /**
+   * Applies operation to given state. Returns empty when operation could not return its result in
+   * given state. Pending operation has no result, so model should accept any result of it.
+   *
+   * @param state state before operation, must not be modified
+   * @param operation recorded operation with its argument and result
+   * @return state after operation, or empty when operation is not legal in given state
+   */
+  Optional<S> apply(S state, Operation operation);
+
+  /**
+   * Returns partition of operation. Operations from different partitions must not affect each
+   * other, e.g. operations on different keys of map, so that each partition is checked separately,
+   * which is much faster than checking the whole history. By default all operations belong to the
+   * same partition.
+   *
+   * @param operation recorded operation
+   * @return partition key of operation
+   */
+  default Object partition(Operation operation) {
+
+    return "";
+  }
+}
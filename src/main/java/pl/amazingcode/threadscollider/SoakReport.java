@@ -0,0 +1,147 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Optional;
+
+/**
+ * Result of {@link SoakRunner}: number of rounds and operations, histograms of release skew and
+ * wall time of rounds, and full {@link CollisionReport} of the failed round, if any.
+ */
+public final class SoakReport {
+
+  /** Reason why runner stopped. */
+  public enum Stop {
+    /** Round has failed. */
+    FAILURE,
+    /** Runner has reached deadline. */
+    DEADLINE,
+    /** Runner has reached max rounds. */
+    MAX_ROUNDS
+  }
+
+  private final Stop stop;
+  private final long rounds;
+  private final long operations;
+  private final LatencyHistogram releaseSkews;
+  private final LatencyHistogram wallTimes;
+  private final CollisionReport failure;
+  private final long elapsedNanos;
+
+  private SoakReport(
+      Stop stop,
+      long rounds,
+      long operations,
+      LatencyHistogram releaseSkews,
+      LatencyHistogram wallTimes,
+      CollisionReport failure,
+      long elapsedNanos) {
+
+    this.stop = stop;
+    this.rounds = rounds;
+    this.operations = operations;
+    this.releaseSkews = releaseSkews;
+    this.wallTimes = wallTimes;
+    this.failure = failure;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  static SoakReport of(
+      Stop stop,
+      long rounds,
+      long operations,
+      LatencyHistogram releaseSkews,
+      LatencyHistogram wallTimes,
+      CollisionReport failure,
+      long elapsedNanos) {
+
+    return new SoakReport(stop, rounds, operations, releaseSkews, wallTimes, failure, elapsedNanos);
+  }
+
+  /**
+   * Returns reason why runner stopped.
+   *
+   * @return {@link Stop}
+   */
+  public Stop stop() {
+
+    return stop;
+  }
+
+  /**
+   * Returns true when a round has failed.
+   *
+   * @return true when failure was found
+   */
+  public boolean failed() {
+
+    return stop == Stop.FAILURE;
+  }
+
+  /**
+   * Returns number of rounds, including the failed one.
+   *
+   * @return number of rounds
+   */
+  public long rounds() {
+
+    return rounds;
+  }
+
+  /**
+   * Returns number of actions executed by all threads in all rounds.
+   *
+   * @return number of operations
+   */
+  public long operations() {
+
+    return operations;
+  }
+
+  /**
+   * Returns histogram of the longest release skew of each round.
+   *
+   * @return histogram of release skews in nanoseconds
+   */
+  public LatencyHistogram releaseSkews() {
+
+    return releaseSkews;
+  }
+
+  /**
+   * Returns histogram of wall time of each round.
+   *
+   * @return histogram of wall times in nanoseconds
+   */
+  public LatencyHistogram wallTimes() {
+
+    return wallTimes;
+  }
+
+  /**
+   * Returns report of the failed round, with exceptions of actions, violations of invariants,
+   * unfinished threads and timings of its threads.
+   *
+   * @return report of the failed round, or empty when no round has failed
+   */
+  public Optional<CollisionReport> failure() {
+
+    return Optional.ofNullable(failure);
+  }
+
+  /**
+   * Returns time of the whole soak.
+   *
+   * @return elapsed time in nanoseconds
+   */
+  public long elapsedNanos() {
+
+    return elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+
+    return String.format(
+        "SoakReport[stop=%s, rounds=%d, operations=%d, time=%dms, releaseSkews=%s, wallTimes=%s]",
+        stop, rounds, operations, elapsedNanos / 1_000_000, releaseSkews, wallTimes);
+  }
+}
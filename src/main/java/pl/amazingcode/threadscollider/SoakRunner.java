@@ -0,0 +1,143 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Collides the same threads again and again until the first failure or until deadline, e.g. for
+ * hours in nightly builds. Threads of {@link ThreadsCollider} are started by the first collision
+ * and stay warm between rounds.
+ *
+ * <pre>{@code
+ * SoakReport report =
+ *     SoakRunner.newInstance()
+ *         .withDuration(8, TimeUnit.HOURS)
+ *         .withBeforeEachRound(set::clear)
+ *         .run(threadsCollider, collision -> set.size() != 1);
+ * }</pre>
+ *
+ * <p>Round fails when action has thrown exception, when invariant was violated, when threads have
+ * not finished within timeout or were found in deadlock, or when given check returns true. Only
+ * rolling aggregates of rounds are kept, in fixed size histograms, and full {@link CollisionReport}
+ * is kept only for the failed round, so memory stays flat no matter how many rounds run. Threads
+ * exceptions consumer of collider is still called every round, so it should not collect exceptions
+ * when soaking.
+ */
+public final class SoakRunner {
+
+  private static final long DEFAULT_DURATION_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private long durationNanos = DEFAULT_DURATION_NANOS;
+  private long maxRounds = Long.MAX_VALUE;
+  private Runnable beforeEachRound = () -> {};
+
+  private SoakRunner() {}
+
+  /**
+   * Creates runner colliding threads for one minute.
+   *
+   * @return {@link SoakRunner}
+   */
+  public static SoakRunner newInstance() {
+
+    return new SoakRunner();
+  }
+
+  /**
+   * Sets how long runner collides threads. Round which has started before deadline is completed.
+   *
+   * @param duration duration of soak
+   * @param timeUnit unit of duration
+   * @return {@link SoakRunner}
+   * @throws IllegalArgumentException when duration is not positive
+   */
+  public SoakRunner withDuration(long duration, TimeUnit timeUnit) {
+
+    if (duration < 1) {
+      throw new IllegalArgumentException(
+          String.format("Duration has to be positive, but was %d %s.", duration, timeUnit));
+    }
+
+    this.durationNanos = timeUnit.toNanos(duration);
+    return this;
+  }
+
+  /**
+   * Sets the highest number of rounds, after which runner stops before deadline.
+   *
+   * @param maxRounds max number of rounds
+   * @return {@link SoakRunner}
+   * @throws IllegalArgumentException when max rounds is not positive
+   */
+  public SoakRunner withMaxRounds(long maxRounds) {
+
+    if (maxRounds < 1) {
+      throw new IllegalArgumentException(
+          String.format("Max rounds have to be positive, but were %d.", maxRounds));
+    }
+
+    this.maxRounds = maxRounds;
+    return this;
+  }
+
+  /**
+   * Sets code which prepares state before each collision, e.g. clears collection under test.
+   *
+   * @param beforeEachRound code run before each collision
+   * @return {@link SoakRunner}
+   */
+  public SoakRunner withBeforeEachRound(Runnable beforeEachRound) {
+
+    if (beforeEachRound == null) {
+      throw new NullPointerException("Before each round cannot be null.");
+    }
+
+    this.beforeEachRound = beforeEachRound;
+    return this;
+  }
+
+  /**
+   * Collides threads until the first failed round, deadline or max rounds.
+   *
+   * @param threadsCollider collider whose threads collide in each round
+   * @param failed returns true when collision has revealed bug, e.g. by checking state
+   * @return {@link SoakReport}
+   */
+  public SoakReport run(ThreadsCollider threadsCollider, Predicate<CollisionReport> failed) {
+
+    long startTime = System.nanoTime();
+    long deadline = startTime + durationNanos;
+    LatencyHistogram releaseSkews = new LatencyHistogram();
+    LatencyHistogram wallTimes = new LatencyHistogram();
+    long operations = 0;
+    long rounds = 0;
+
+    while (rounds < maxRounds && System.nanoTime() - deadline < 0) {
+      rounds++;
+      beforeEachRound.run();
+      CollisionReport report = threadsCollider.collide();
+      releaseSkews.record(report.releaseSkew().max());
+      wallTimes.record(report.wallTimeNanos());
+      operations += report.throughput().operations();
+
+      if (!report.failures().isEmpty()
+          || !report.invariantViolations().isEmpty()
+          || report.unfinishedThreads().isPresent()
+          || failed.test(report)) {
+        return SoakReport.of(
+            SoakReport.Stop.FAILURE,
+            rounds,
+            operations,
+            releaseSkews,
+            wallTimes,
+            report,
+            System.nanoTime() - startTime);
+      }
+    }
+
+    SoakReport.Stop stop =
+        rounds < maxRounds ? SoakReport.Stop.DEADLINE : SoakReport.Stop.MAX_ROUNDS;
+    return SoakReport.of(
+        stop, rounds, operations, releaseSkews, wallTimes, null, System.nanoTime() - startTime);
+  }
+}
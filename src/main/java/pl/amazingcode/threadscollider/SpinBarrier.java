@@ -0,0 +1,53 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SpinBarrier extends Barrier {
+
+  private final AtomicInteger readyThreadsCount;
+  private final AtomicInteger releasedRound;
+
+  SpinBarrier(int parties) {
+
+    super(parties);
+    this.readyThreadsCount = new AtomicInteger(0);
+    this.releasedRound = new AtomicInteger(0);
+  }
+
+  @Override
+  final void release(int round) {
+
+    for (int spins = 0; readyThreadsCount.get() < parties(); spins++) {
+      idle(spins);
+    }
+
+    readyThreadsCount.set(0);
+    releasedRound.set(round);
+  }
+
+  @Override
+  final void awaitRelease(int party, int round) {
+
+    readyThreadsCount.incrementAndGet();
+
+    for (int spins = 0; releasedRound.get() < round; spins++) {
+      idle(spins);
+    }
+  }
+
+  @Override
+  final void abort() {
+
+    releasedRound.set(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Called in each iteration of waiting loop.
+   *
+   * @param spins number of iterations made so far
+   */
+  void idle(int spins) {
+
+    SpinWait.onSpinWait();
+  }
+}
@@ -0,0 +1,61 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+final class SpinParkBarrier extends Barrier {
+
+  private static final int SPINS_BEFORE_PARK = 1_000;
+
+  private final AtomicInteger readyThreadsCount;
+  private volatile Thread releasingThread;
+  private volatile int releasedRound;
+
+  SpinParkBarrier(int parties) {
+
+    super(parties);
+    this.readyThreadsCount = new AtomicInteger(0);
+  }
+
+  @Override
+  void release(int round) {
+
+    releasingThread = Thread.currentThread();
+
+    for (int spins = 0; readyThreadsCount.get() < parties(); spins++) {
+      idle(spins);
+    }
+
+    readyThreadsCount.set(0);
+    releasedRound = round;
+    unparkAll();
+  }
+
+  @Override
+  void awaitRelease(int party, int round) {
+
+    if (readyThreadsCount.incrementAndGet() == parties()) {
+      LockSupport.unpark(releasingThread);
+    }
+
+    for (int spins = 0; releasedRound < round; spins++) {
+      idle(spins);
+    }
+  }
+
+  @Override
+  void abort() {
+
+    releasedRound = Integer.MAX_VALUE;
+    unparkAll();
+  }
+
+  private void idle(int spins) {
+
+    if (spins < SPINS_BEFORE_PARK) {
+      SpinWait.onSpinWait();
+    } else {
+      LockSupport.park(this);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/** Calls {@code Thread.onSpinWait()} when running on Java 9+, does nothing on Java 8. */
+final class SpinWait {
+
+  private static final MethodHandle ON_SPIN_WAIT = onSpinWaitHandle();
+
+  private SpinWait() {}
+
+  static void onSpinWait() {
+
+    if (ON_SPIN_WAIT != null) {
+      try {
+        ON_SPIN_WAIT.invokeExact();
+      } catch (Throwable throwable) {
+        throw new IllegalStateException(throwable);
+      }
+    }
+  }
+
+  private static MethodHandle onSpinWaitHandle() {
+
+    try {
+      return MethodHandles.lookup()
+          .findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+    } catch (NoSuchMethodException | IllegalAccessException exception) {
+      return null;
+    }
+  }
+}
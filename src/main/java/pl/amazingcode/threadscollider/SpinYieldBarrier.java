@@ -0,0 +1,21 @@
+package pl.amazingcode.threadscollider;
+
+final class SpinYieldBarrier extends SpinBarrier {
+
+  private static final int SPINS_BEFORE_YIELD = 1_000;
+
+  SpinYieldBarrier(int parties) {
+
+    super(parties);
+  }
+
+  @Override
+  void idle(int spins) {
+
+    if (spins < SPINS_BEFORE_YIELD) {
+      SpinWait.onSpinWait();
+    } else {
+      Thread.yield();
+    }
+  }
+}
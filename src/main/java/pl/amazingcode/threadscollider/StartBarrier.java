@@ -0,0 +1,68 @@
+package pl.amazingcode.threadscollider;
+
+/** Strategy used by {@link ThreadsCollider} to hold started threads and release them at once. */
+public enum StartBarrier {
+
+  /**
+   * Behaves as {@link #SPIN} when there are no more threads than {@link Processors#USABLE}.
+   * Otherwise threads park until all of them are ready, so waiting threads do not take processors
+   * from threads which have not arrived yet, and spin yielding processor only for the final
+   * release. Default strategy for platform threads.
+   */
+  ADAPTIVE {
+    @Override
+    Barrier newBarrier(int parties) {
+
+      return parties > Processors.USABLE
+          ? new OversubscribedBarrier(parties)
+          : new SpinBarrier(parties);
+    }
+  },
+
+  /**
+   * Threads busy spin with {@code Thread.onSpinWait()} hint until released. Gives the tightest
+   * release, but every waiting thread occupies a core, so threads which exceed number of processors
+   * delay the release.
+   */
+  SPIN {
+    @Override
+    Barrier newBarrier(int parties) {
+
+      return new SpinBarrier(parties);
+    }
+  },
+
+  /**
+   * Threads busy spin for a short while and then yield processor to other threads until released.
+   */
+  SPIN_YIELD {
+    @Override
+    Barrier newBarrier(int parties) {
+
+      return new SpinYieldBarrier(parties);
+    }
+  },
+
+  /**
+   * Threads busy spin for a short while and then park until released. Wastes the least CPU, but
+   * wakes threads one by one, so release is the loosest.
+   */
+  SPIN_PARK {
+    @Override
+    Barrier newBarrier(int parties) {
+
+      return new SpinParkBarrier(parties);
+    }
+  },
+
+  /** Threads wait on {@link java.util.concurrent.Phaser} until released. */
+  PHASER {
+    @Override
+    Barrier newBarrier(int parties) {
+
+      return new PhaserBarrier(parties);
+    }
+  };
+
+  abstract Barrier newBarrier(int parties);
+}
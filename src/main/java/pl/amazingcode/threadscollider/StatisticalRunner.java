@@ -0,0 +1,180 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Repeats rounds of collisions until concurrency bug manifests, or until it is not detectable with
+ * chosen confidence, instead of always running fixed number of repetitions. Round is user code
+ * which prepares state, collides threads and returns true when bug has manifested.
+ *
+ * <pre>{@code
+ * DetectionReport report =
+ *     StatisticalRunner.newInstance()
+ *         .withMinDetectableProbability(0.01)
+ *         .withConfidence(0.99)
+ *         .run(
+ *             () -> {
+ *               set.clear();
+ *               threadsCollider.collide();
+ *               return set.size() != 1;
+ *             });
+ * }</pre>
+ *
+ * <p>When bug has not manifested in n rounds, probability that it would manifest in a single round
+ * with probability of at least p is (1 - p)^n. Runner stops as soon as it drops below 1 -
+ * confidence, so bug manifesting at least as often as minimal detectable probability would have
+ * been found with given confidence.
+ *
+ * <p>When bug has manifested, but fewer times than requested by {@link
+ * #withStopAfterFailures(int)}, runner stops as soon as upper bound of Wilson score interval of its
+ * probability drops below minimal detectable probability, so a single manifestation of a rare bug
+ * does not make runner go on until max rounds.
+ */
+public final class StatisticalRunner {
+
+  private static final double DEFAULT_MIN_DETECTABLE_PROBABILITY = 0.01;
+  private static final double DEFAULT_CONFIDENCE = 0.95;
+  private static final int DEFAULT_MAX_ROUNDS = 1_000_000;
+
+  private double minDetectableProbability = DEFAULT_MIN_DETECTABLE_PROBABILITY;
+  private double confidence = DEFAULT_CONFIDENCE;
+  private int maxRounds = DEFAULT_MAX_ROUNDS;
+  private int stopAfterFailures = 1;
+
+  private StatisticalRunner() {}
+
+  /**
+   * Creates runner detecting bugs manifesting in at least 1% of rounds with 95% confidence.
+   *
+   * @return {@link StatisticalRunner}
+   */
+  public static StatisticalRunner newInstance() {
+
+    return new StatisticalRunner();
+  }
+
+  /**
+   * Sets the lowest per round probability of manifestation of bug, which runner has to detect.
+   * Lower probability requires more rounds before runner gives up, about 3 / probability for 95%
+   * confidence.
+   *
+   * @param minDetectableProbability probability from 0 to 1, exclusive
+   * @return {@link StatisticalRunner}
+   * @throws IllegalArgumentException when probability is not between 0 and 1
+   */
+  public StatisticalRunner withMinDetectableProbability(double minDetectableProbability) {
+
+    this.minDetectableProbability =
+        probability("Min detectable probability", minDetectableProbability);
+    return this;
+  }
+
+  /**
+   * Sets confidence of detection and of interval of estimated probability.
+   *
+   * @param confidence confidence from 0 to 1, exclusive
+   * @return {@link StatisticalRunner}
+   * @throws IllegalArgumentException when confidence is not between 0 and 1
+   */
+  public StatisticalRunner withConfidence(double confidence) {
+
+    this.confidence = probability("Confidence", confidence);
+    return this;
+  }
+
+  /**
+   * Sets the highest number of rounds, after which runner stops regardless of statistics.
+   *
+   * @param maxRounds max number of rounds
+   * @return {@link StatisticalRunner}
+   * @throws IllegalArgumentException when max rounds is not positive
+   */
+  public StatisticalRunner withMaxRounds(int maxRounds) {
+
+    if (maxRounds < 1) {
+      throw new IllegalArgumentException(
+          String.format("Max rounds have to be positive, but were %d.", maxRounds));
+    }
+
+    this.maxRounds = maxRounds;
+    return this;
+  }
+
+  /**
+   * Makes runner continue after the first manifestation of bug until given number of them, which
+   * narrows confidence interval of estimated probability. Runner stops earlier when upper bound of
+   * the interval drops below minimal detectable probability. Default is 1.
+   *
+   * @param failures number of manifestations of bug after which runner stops
+   * @return {@link StatisticalRunner}
+   * @throws IllegalArgumentException when failures is not positive
+   */
+  public StatisticalRunner withStopAfterFailures(int failures) {
+
+    if (failures < 1) {
+      throw new IllegalArgumentException(
+          String.format("Stop after failures has to be positive, but was %d.", failures));
+    }
+
+    this.stopAfterFailures = failures;
+    return this;
+  }
+
+  /**
+   * Runs rounds until bug manifests given number of times, until it is not detectable with chosen
+   * confidence, until it is rarer than minimal detectable probability, or until max rounds.
+   *
+   * @param round prepares state, collides threads and returns true when bug has manifested
+   * @return {@link DetectionReport}
+   */
+  public DetectionReport run(BooleanSupplier round) {
+
+    long startTime = System.nanoTime();
+    double missProbability = 1.0;
+    double alpha = 1 - confidence;
+    double z = DetectionReport.zScore(confidence);
+    int failures = 0;
+    int rounds = 0;
+
+    while (rounds < maxRounds) {
+      rounds++;
+      if (round.getAsBoolean()) {
+        failures++;
+        if (failures >= stopAfterFailures) {
+          return report(DetectionReport.Stop.FAILURES_FOUND, rounds, failures, startTime);
+        }
+      }
+      missProbability *= 1 - minDetectableProbability;
+      if (failures == 0 && missProbability <= alpha) {
+        return report(DetectionReport.Stop.NOT_DETECTABLE, rounds, failures, startTime);
+      }
+      if (failures > 0
+          && DetectionReport.upperBound(failures, rounds, z) < minDetectableProbability) {
+        return report(
+            DetectionReport.Stop.BELOW_MIN_DETECTABLE_PROBABILITY, rounds, failures, startTime);
+      }
+    }
+    return report(DetectionReport.Stop.MAX_ROUNDS, rounds, failures, startTime);
+  }
+
+  private DetectionReport report(
+      DetectionReport.Stop stop, int rounds, int failures, long startTime) {
+
+    return DetectionReport.of(
+        stop,
+        rounds,
+        failures,
+        confidence,
+        minDetectableProbability,
+        System.nanoTime() - startTime);
+  }
+
+  private static double probability(String name, double value) {
+
+    if (!(value > 0 && value < 1)) {
+      throw new IllegalArgumentException(
+          String.format("%s has to be between 0 and 1, but was %s.", name, value));
+    }
+    return value;
+  }
+}
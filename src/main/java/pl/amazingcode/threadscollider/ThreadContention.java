@@ -0,0 +1,51 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * Reads blocked and waited statistics of threads from {@link ThreadMXBean}. Times are measured only
+ * when thread contention monitoring is enabled, which is done once for the whole JVM and left
+ * enabled.
+ */
+final class ThreadContention {
+
+  static final int COUNTERS = 4;
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private ThreadContention() {}
+
+  static void enable() {
+
+    if (!THREAD_MX_BEAN.isThreadContentionMonitoringSupported()) {
+      throw new UnsupportedOperationException(
+          "Thread contention monitoring is not supported by this JVM.");
+    }
+    if (!THREAD_MX_BEAN.isThreadContentionMonitoringEnabled()) {
+      THREAD_MX_BEAN.setThreadContentionMonitoringEnabled(true);
+    }
+  }
+
+  /**
+   * Writes blocked count, blocked time, waited count and waited time of current thread into given
+   * slots. Virtual threads are not reported by {@link ThreadMXBean}, so their slots are zeroed.
+   * {@link ThreadMXBean} exposes these statistics only by {@link ThreadInfo}, so each snapshot
+   * allocates it.
+   */
+  static void snapshot(long[] counters, int party) {
+
+    int offset = party * COUNTERS;
+    ThreadInfo info = THREAD_MX_BEAN.getThreadInfo(Thread.currentThread().getId());
+    if (info == null) {
+      Arrays.fill(counters, offset, offset + COUNTERS, 0);
+      return;
+    }
+    counters[offset] = info.getBlockedCount();
+    counters[offset + 1] = info.getBlockedTime();
+    counters[offset + 2] = info.getWaitedCount();
+    counters[offset + 3] = info.getWaitedTime();
+  }
+}
@@ -0,0 +1,118 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+
+/**
+ * Dumps full stacks of given threads, with locks they are waiting on, monitors and synchronizers
+ * they hold, and names of actions they execute. All threads are captured with one call, so they are
+ * dumped at the same moment.
+ */
+final class ThreadDump {
+
+  private ThreadDump() {}
+
+  /**
+   * Dumps threads of given ids.
+   *
+   * @param threadIds ids of threads to dump
+   * @param actionNames names of actions by ids of threads executing them, threads without action
+   *     are dumped without label
+   * @return thread dump
+   */
+  static String of(long[] threadIds, Map<Long, String> actionNames) {
+
+    StringBuilder threadDump = new StringBuilder(System.lineSeparator());
+
+    if (threadIds.length == 0) {
+      return threadDump.toString();
+    }
+
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    ThreadInfo[] threadInfos =
+        threadMXBean.getThreadInfo(
+            threadIds,
+            threadMXBean.isObjectMonitorUsageSupported(),
+            threadMXBean.isSynchronizerUsageSupported());
+
+    for (ThreadInfo threadInfo : threadInfos) {
+      if (threadInfo != null) {
+        append(threadDump, threadInfo, actionNames.get(threadInfo.getThreadId()));
+      }
+    }
+    return threadDump.toString();
+  }
+
+  private static void append(StringBuilder threadDump, ThreadInfo threadInfo, String actionName) {
+
+    threadDump.append('"').append(threadInfo.getThreadName()).append('"');
+    if (actionName != null) {
+      threadDump.append(" action=").append(actionName);
+    }
+    threadDump
+        .append(" Id=")
+        .append(threadInfo.getThreadId())
+        .append(' ')
+        .append(threadInfo.getThreadState());
+    if (threadInfo.getLockName() != null) {
+      threadDump.append(" on ").append(threadInfo.getLockName());
+    }
+    if (threadInfo.getLockOwnerName() != null) {
+      threadDump
+          .append(" owned by \"")
+          .append(threadInfo.getLockOwnerName())
+          .append("\" Id=")
+          .append(threadInfo.getLockOwnerId());
+    }
+    if (threadInfo.isInNative()) {
+      threadDump.append(" (in native)");
+    }
+    threadDump.append(System.lineSeparator());
+
+    StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+    for (int depth = 0; depth < stackTrace.length; depth++) {
+      threadDump.append("\tat ").append(stackTrace[depth]).append(System.lineSeparator());
+
+      if (depth == 0 && threadInfo.getLockInfo() != null) {
+        threadDump
+            .append("\t-  ")
+            .append(waiting(threadInfo))
+            .append(' ')
+            .append(threadInfo.getLockInfo())
+            .append(System.lineSeparator());
+      }
+
+      for (MonitorInfo monitorInfo : threadInfo.getLockedMonitors()) {
+        if (monitorInfo.getLockedStackDepth() == depth) {
+          threadDump.append("\t-  locked ").append(monitorInfo).append(System.lineSeparator());
+        }
+      }
+    }
+
+    LockInfo[] lockedSynchronizers = threadInfo.getLockedSynchronizers();
+    if (lockedSynchronizers.length > 0) {
+      threadDump.append("\tLocked synchronizers:").append(System.lineSeparator());
+      for (LockInfo lockInfo : lockedSynchronizers) {
+        threadDump.append("\t-  ").append(lockInfo).append(System.lineSeparator());
+      }
+    }
+    threadDump.append(System.lineSeparator());
+  }
+
+  private static String waiting(ThreadInfo threadInfo) {
+
+    switch (threadInfo.getThreadState()) {
+      case BLOCKED:
+        return "blocked on";
+      case WAITING:
+      case TIMED_WAITING:
+        return "waiting on";
+      default:
+        return "on";
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.reflect.Field;
+
+/**
+ * Removes all thread locals of current thread, the same way as they are removed when thread exits.
+ * Requires access to private fields of {@link Thread}, which on Java 9+ has to be granted with
+ * {@code --add-opens java.base/java.lang=ALL-UNNAMED}. Does nothing when access is not granted.
+ */
+final class ThreadLocals {
+
+  private static final Field THREAD_LOCALS = accessibleField("threadLocals");
+  private static final Field INHERITABLE_THREAD_LOCALS = accessibleField("inheritableThreadLocals");
+
+  private ThreadLocals() {}
+
+  static boolean clearable() {
+
+    return THREAD_LOCALS != null && INHERITABLE_THREAD_LOCALS != null;
+  }
+
+  static void clear() {
+
+    if (clearable()) {
+      try {
+        THREAD_LOCALS.set(Thread.currentThread(), null);
+        INHERITABLE_THREAD_LOCALS.set(Thread.currentThread(), null);
+      } catch (IllegalAccessException exception) {
+        throw new IllegalStateException(exception);
+      }
+    }
+  }
+
+  private static Field accessibleField(String name) {
+
+    try {
+      Field field = Thread.class.getDeclaredField(name);
+      field.setAccessible(true);
+      return field;
+    } catch (NoSuchFieldException | RuntimeException exception) {
+      return null;
+    }
+  }
+}
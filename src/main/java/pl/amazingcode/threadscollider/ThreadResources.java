@@ -0,0 +1,56 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads CPU time and allocated bytes of current thread from {@link ThreadMXBean}. Allocated bytes
+ * are read only on JVMs providing {@code com.sun.management.ThreadMXBean}, otherwise they are
+ * recorded as -1, like any value which JVM does not measure, e.g. for virtual threads.
+ */
+final class ThreadResources {
+
+  static final int COUNTERS = 2;
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final com.sun.management.ThreadMXBean ALLOCATIONS_MX_BEAN = allocationsMxBean();
+
+  private ThreadResources() {}
+
+  static void enable() {
+
+    if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+      throw new UnsupportedOperationException("Thread CPU time is not supported by this JVM.");
+    }
+    if (!THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+      THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+    }
+    if (ALLOCATIONS_MX_BEAN != null && !ALLOCATIONS_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+      ALLOCATIONS_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+    }
+  }
+
+  /** Writes CPU time and allocated bytes of current thread into given slots. */
+  static void snapshot(long[] counters, int party) {
+
+    int offset = party * COUNTERS;
+    counters[offset] = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    counters[offset + 1] =
+        ALLOCATIONS_MX_BEAN == null
+            ? -1
+            : ALLOCATIONS_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static com.sun.management.ThreadMXBean allocationsMxBean() {
+
+    try {
+      if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+        return bean.isThreadAllocatedMemorySupported() ? bean : null;
+      }
+    } catch (LinkageError error) {
+      // JVM without com.sun.management
+    }
+    return null;
+  }
+}
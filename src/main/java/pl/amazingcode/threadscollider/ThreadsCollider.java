@@ -3,100 +3,411 @@ package pl.amazingcode.threadscollider;
 import static pl.amazingcode.threadscollider.ThreadFactory.THREAD_FACTORY;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /** Allows to execute multiple actions by all threads at the "same time". */
 public final class ThreadsCollider implements AutoCloseable {
 
   private static final long DEFAULT_TIMEOUT = 60;
   private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.SECONDS;
+  private static final StartBarrier DEFAULT_START_BARRIER = StartBarrier.ADAPTIVE;
+  private static final StartBarrier DEFAULT_VIRTUAL_THREADS_START_BARRIER = StartBarrier.SPIN_PARK;
 
   private final List<Action> actions;
-  private final ExecutorService executor;
+  private final List<Invariant> invariants;
+  private final ColliderPool colliderPool;
+  private final boolean ownColliderPool;
   private final int threadsCount;
-  private final AtomicInteger startedThreadsCount;
-  private final AtomicBoolean spinLock;
-  private final CountDownLatch runningThreadsLatch;
+  private final int partiesCount;
+  private final Thread[] runningThreads;
+  private final CountDownLatch stoppedThreadsLatch;
+  private final Barrier barrier;
+  private final CollisionRecorder recorder;
   private final long timeout;
   private final TimeUnit timeUnit;
   private final Consumer<Exception> threadsExceptionsConsumer;
+  private final int iterations;
+  private final long durationNanos;
+  private final long watchdogIntervalNanos;
+  private final CollisionPoints[] collisionPoints;
+  private final CollisionListener listener;
+  private volatile CountDownLatch runningThreadsLatch;
+  private volatile CountDownLatch runningActionsLatch;
+  private volatile int stoppedRound;
+  private int round;
+  private boolean threadsStarted;
+  private boolean threadsUnfinished;
+  private long[] deadlockedThreads = new long[0];
+  private boolean closed;
 
   private ThreadsCollider(
       List<Action> actions,
+      List<Invariant> invariants,
       long timeout,
       TimeUnit timeUnit,
-      Consumer<Exception> threadsExceptionsConsumer) {
+      Consumer<Exception> threadsExceptionsConsumer,
+      StartBarrier startBarrier,
+      ColliderPool colliderPool,
+      java.util.concurrent.ThreadFactory threadFactory,
+      int iterations,
+      long durationNanos,
+      boolean latencyHistograms,
+      long watchdogIntervalNanos,
+      Long collisionPointsSeed,
+      boolean contentionMonitoring,
+      boolean resourceUsage,
+      CollisionListener listener) {
 
     this.actions = actions;
+    this.invariants = invariants;
     this.threadsCount = actions.stream().mapToInt(Action::times).sum();
-    this.executor = Executors.newFixedThreadPool(threadsCount, THREAD_FACTORY);
-    this.spinLock = new AtomicBoolean(true);
-    this.startedThreadsCount = new AtomicInteger(0);
-    this.runningThreadsLatch = new CountDownLatch(threadsCount);
+    this.partiesCount = threadsCount + invariants.size();
+    this.ownColliderPool = colliderPool == null;
+    this.colliderPool = ownColliderPool ? ColliderPool.owned(threadFactory) : colliderPool;
+    this.runningThreads = new Thread[partiesCount];
+    this.stoppedThreadsLatch = new CountDownLatch(partiesCount);
+    this.barrier = startBarrier.newBarrier(partiesCount);
+    this.recorder =
+        new CollisionRecorder(
+            actions,
+            threadsCount,
+            iterations,
+            latencyHistograms,
+            invariants.size(),
+            contentionMonitoring,
+            resourceUsage);
     this.timeout = timeout;
     this.timeUnit = timeUnit;
     this.threadsExceptionsConsumer = threadsExceptionsConsumer;
+    this.iterations = iterations;
+    this.durationNanos = durationNanos;
+    this.watchdogIntervalNanos = watchdogIntervalNanos;
+    this.collisionPoints =
+        collisionPointsSeed == null ? null : collisionPoints(collisionPointsSeed, threadsCount);
+    this.listener = GuardedCollisionListener.of(listener, recorder, threadsExceptionsConsumer);
+  }
+
+  private static CollisionPoints[] collisionPoints(long seed, int threadsCount) {
+
+    CollisionPoints[] collisionPoints = new CollisionPoints[threadsCount];
+    for (int party = 0; party < threadsCount; party++) {
+      collisionPoints[party] = new CollisionPoints(seed, party);
+    }
+    return collisionPoints;
   }
 
   /**
-   * Tries to execute multiple actions by all threads at the "same time".
+   * Tries to execute multiple actions by all threads at the "same time". May be called many times.
+   * Threads are created by the first call and reused by the following ones, which makes each next
+   * collision much cheaper than building new {@link ThreadsCollider}.
    *
+   * @return {@link CollisionReport} with release skew of threads and durations of actions
    * @throws ThreadsColliderFailure if any exception occurs during execution. This not includes
    *     exceptions thrown by threads.
+   * @throws IllegalStateException if collider is closed or threads of previous collision have not
+   *     finished within timeout.
    */
-  public void collide() {
+  public CollisionReport collide() {
+
+    if (closed) {
+      throw new IllegalStateException("Threads collider is closed.");
+    }
+
+    if (threadsUnfinished) {
+      throw new IllegalStateException(
+          "Threads collider cannot collide, because threads of previous collision have not finished.");
+    }
 
     try {
 
-      for (Action action : actions) {
-        for (int i = 0; i < action.times(); i++) {
-          executor.execute(() -> decorate(action));
-        }
+      startThreads();
+
+      CountDownLatch latch = new CountDownLatch(partiesCount);
+      runningActionsLatch = new CountDownLatch(threadsCount);
+      runningThreadsLatch = latch;
+      recorder.start();
+      round++;
+      listener.onCollisionStart(round);
+
+      boolean threadsFinished = releaseAndAwaitThreads(latch);
+      UnfinishedThreads unfinishedThreads = threadsFinished ? null : unfinishedThreads();
+      CollisionReport report = recorder.report(unfinishedThreads);
+
+      if (unfinishedThreads != null) {
+        threadsUnfinished = true;
+        listener.onTimeout(unfinishedThreads);
       }
+      listener.onCollisionEnd(report);
 
-      while (startedThreadsCount.get() < threadsCount)
-        ;
+      for (ActionFailure failure : report.failures()) {
+        threadsExceptionsConsumer.accept(failure.exception());
+      }
 
-      spinLock.set(false);
+      for (InvariantViolation violation : report.invariantViolations()) {
+        threadsExceptionsConsumer.accept(violation);
+      }
 
-      if (!runningThreadsLatch.await(timeout, timeUnit)) {
-        consumeException(UnfinishedThreads.becauseTimeoutExceeded(timeout, timeUnit));
+      if (unfinishedThreads != null) {
+        threadsExceptionsConsumer.accept(unfinishedThreads);
       }
 
+      return report;
+
     } catch (InterruptedException exception) {
       throw ThreadsColliderFailure.from(exception);
     }
   }
 
-  private void decorate(Action action) {
+  private boolean releaseAndAwaitThreads(CountDownLatch latch) throws InterruptedException {
+
+    if (collisionPoints != null) {
+      Collision.activate();
+    }
+
+    try {
+      barrier.release();
+
+      if (durationNanos > 0) {
+        latch.await(durationNanos, TimeUnit.NANOSECONDS);
+        stoppedRound = round;
+      }
+
+      return awaitThreads(latch);
+
+    } finally {
+      if (collisionPoints != null) {
+        Collision.deactivate();
+      }
+    }
+  }
+
+  /** Reports unfinished threads of collider with their full stacks and actions. */
+  private UnfinishedThreads unfinishedThreads() {
+
+    Map<Long, String> unfinishedThreads = new LinkedHashMap<>();
+    for (int party = 0; party < threadsCount; party++) {
+      Thread thread = barrier.thread(party);
+      if (thread != null && !recorder.hasFinished(party)) {
+        unfinishedThreads.put(thread.getId(), recorder.actionName(party));
+      }
+    }
+
+    if (deadlockedThreads.length > 0) {
+      FlightRecorderEvents.deadlockDetected(deadlockedThreads.length, unfinishedThreads.size());
+      return UnfinishedThreads.becauseDeadlockDetected(deadlockedThreads, unfinishedThreads);
+    }
+
+    FlightRecorderEvents.timeoutExceeded(timeUnit.toNanos(timeout), unfinishedThreads.size());
+    return UnfinishedThreads.becauseTimeoutExceeded(
+        timeout, timeUnit, Deadlocks.deadlockedThreads(barrier), unfinishedThreads);
+  }
+
+  /**
+   * Waits for threads to finish by timeout. When deadlock watchdog is enabled, looks for deadlocked
+   * threads every interval and stops waiting as soon as they are found.
+   */
+  private boolean awaitThreads(CountDownLatch latch) throws InterruptedException {
+
+    if (watchdogIntervalNanos == 0) {
+      return latch.await(timeout, timeUnit);
+    }
+
+    long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+
+    for (long remaining = timeUnit.toNanos(timeout);
+        remaining > 0;
+        remaining = deadline - System.nanoTime()) {
+
+      if (latch.await(Math.min(watchdogIntervalNanos, remaining), TimeUnit.NANOSECONDS)) {
+        return true;
+      }
+
+      deadlockedThreads = Deadlocks.deadlockedThreads(barrier);
+      if (deadlockedThreads.length > 0) {
+        return false;
+      }
+    }
+    return latch.getCount() == 0;
+  }
+
+  private void startThreads() {
+
+    if (threadsStarted) {
+      return;
+    }
+
+    int party = 0;
+    for (Action action : actions) {
+      for (int i = 0; i < action.times(); i++) {
+        int threadParty = party++;
+        colliderPool.execute(() -> runRounds(action, threadParty), stoppedThreadsLatch::countDown);
+      }
+    }
+    for (int index = 0; index < invariants.size(); index++) {
+      int invariant = index;
+      int observerParty = party++;
+      colliderPool.execute(
+          () -> observeRounds(invariant, observerParty), stoppedThreadsLatch::countDown);
+    }
+    threadsStarted = true;
+  }
+
+  private void runRounds(Action action, int party) {
+
+    setThreadName(action.actionName());
+    running(party, Thread.currentThread());
+
+    if (collisionPoints != null) {
+      Collision.enter(collisionPoints[party]);
+    }
+
+    try {
+      for (int round = 1; barrier.awaitRound(party, round); round++) {
+        recorder.ready(party);
+        FlightRecorderEvents.threadReady(recorder.actionName(party), party, round);
+        listener.onThreadReady(recorder.actionName(party), party, round);
+        if (!barrier.arrive(party, round)) {
+          return;
+        }
+        recorder.released(party);
+        FlightRecorderEvents.barrierReleased(recorder.actionName(party), party, round);
+        listener.onRelease(recorder.actionName(party), party, round);
+        if (collisionPoints != null) {
+          collisionPoints[party].reset(round);
+        }
+        decorate(action, party, round);
+      }
+    } finally {
+      Collision.exit();
+      running(party, null);
+    }
+  }
+
+  /**
+   * Runs observer of invariant, which is released by the same barrier as actions, but is not their
+   * party, and polls invariant until all actions finish.
+   */
+  private void observeRounds(int invariant, int party) {
+
+    setThreadName(Optional.of(invariants.get(invariant).invariantName()));
+    running(party, Thread.currentThread());
+
+    try {
+      for (int round = 1; barrier.awaitRound(party, round); round++) {
+        if (!barrier.arrive(party, round)) {
+          return;
+        }
+        observe(invariant);
+      }
+    } finally {
+      running(party, null);
+    }
+  }
+
+  private void observe(int invariant) {
+
+    Invariant observed = invariants.get(invariant);
+    CountDownLatch latch = runningThreadsLatch;
+    CountDownLatch actionsLatch = runningActionsLatch;
+    Thread thread = Thread.currentThread();
+    long checks = 0;
 
     try {
-      setThreadName(action.actionName());
+      InvariantViolation violation = null;
+      while (violation == null && actionsLatch.getCount() > 0 && !thread.isInterrupted()) {
+        violation = observed.check(recorder.elapsedNanos(), ++checks);
+      }
+      if (violation == null) {
+        violation = observed.check(recorder.elapsedNanos(), ++checks);
+      }
+      if (violation != null) {
+        recorder.violated(invariant, violation);
+      }
+    } catch (Error error) {
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+    } finally {
+      latch.countDown();
+    }
+  }
 
-      startedThreadsCount.incrementAndGet();
+  private synchronized void running(int party, Thread thread) {
 
-      while (startedThreadsCount.get() < threadsCount)
-        ;
+    runningThreads[party] = thread;
+  }
 
-      while (spinLock.get())
-        ;
+  private synchronized void interruptRunningThreads() {
 
-      action.runnable().run();
+    for (Thread thread : runningThreads) {
+      if (thread != null) {
+        thread.interrupt();
+      }
+    }
+  }
+
+  private void decorate(Action action, int party, int round) {
+
+    Runnable runnable = action.runnable();
+    Callable<?> callable = action.callable();
+    LatencyHistogram latencyHistogram = recorder.latencyHistogram(party);
+    String actionName = recorder.actionName(party);
+    Object span = FlightRecorderEvents.actionStarted(actionName, party, round);
+    long operations = 0;
+    boolean failed = false;
+
+    listener.onActionStart(actionName, party, round);
+
+    try {
+      while (repeat(operations, round)) {
+        if (latencyHistogram == null) {
+          execute(runnable, callable, party, operations);
+        } else {
+          long startTime = System.nanoTime();
+          execute(runnable, callable, party, operations);
+          latencyHistogram.record(System.nanoTime() - startTime);
+        }
+        operations++;
+      }
     } catch (Exception exception) {
-      consumeException(exception);
+      failed = true;
+      recorder.failed(party, exception);
+      listener.onException(actionName, party, round, exception);
+    } catch (Error error) {
+      failed = true;
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
     } finally {
+      FlightRecorderEvents.actionFinished(span, operations, failed);
+      recorder.finished(party, operations);
+      listener.onActionEnd(actionName, party, round, operations);
+      runningActionsLatch.countDown();
       runningThreadsLatch.countDown();
     }
   }
 
+  private void execute(Runnable runnable, Callable<?> callable, int party, long operation)
+      throws Exception {
+
+    if (callable == null) {
+      runnable.run();
+    } else {
+      recorder.result(party, operation, callable.call());
+    }
+  }
+
+  private boolean repeat(long operations, int round) {
+
+    return durationNanos > 0 ? stoppedRound < round : operations < iterations;
+  }
+
   @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
   private void setThreadName(Optional<String> actionName) {
 
@@ -105,24 +416,30 @@ public final class ThreadsCollider implements AutoCloseable {
         .ifPresent(Thread.currentThread()::setName);
   }
 
-  /** Shuts down the executor service and waits for all threads to finish by given timeout. */
+  /**
+   * Stops threads and waits for them to finish by given timeout. Threads which have not finished
+   * are interrupted. Threads borrowed from {@link ColliderPool} are returned to it. Threads found
+   * deadlocked by watchdog are not awaited, as they would never finish.
+   */
   @Override
   public void close() {
+    closed = true;
+    barrier.close();
     try {
-      executor.shutdown();
-      if (!executor.awaitTermination(timeout, timeUnit)) {
-        executor.shutdownNow();
+      if (deadlockedThreads.length > 0) {
+        interruptRunningThreads();
+      } else if (threadsStarted && !stoppedThreadsLatch.await(timeout, timeUnit)) {
+        interruptRunningThreads();
       }
     } catch (InterruptedException e) {
-      executor.shutdownNow();
+      interruptRunningThreads();
+    } finally {
+      if (ownColliderPool) {
+        colliderPool.close();
+      }
     }
   }
 
-  private synchronized void consumeException(Exception exception) {
-
-    threadsExceptionsConsumer.accept(exception);
-  }
-
   /** Builder for {@link ThreadsCollider}. */
   public static class ThreadsColliderBuilder
       implements MandatoryActionBuilder,
@@ -132,15 +449,30 @@ public final class ThreadsCollider implements AutoCloseable {
           OptionalBuilder {
 
     private final List<Action> actions;
+    private final List<Invariant> invariants;
+    private final List<CollisionListener> listeners;
     private Runnable runnable;
+    private Callable<?> callable;
     private String actionName;
     private long timeout = DEFAULT_TIMEOUT;
     private TimeUnit timeUnit = DEFAULT_TIME_UNIT;
     private Consumer<Exception> threadsExceptionsConsumer = (exception) -> {};
+    private StartBarrier startBarrier;
+    private boolean virtualThreads;
+    private int iterations = 1;
+    private long durationNanos;
+    private boolean latencyHistograms;
+    private ColliderPool colliderPool;
+    private long watchdogIntervalNanos;
+    private Long collisionPointsSeed;
+    private boolean contentionMonitoring;
+    private boolean resourceUsage;
 
     private ThreadsColliderBuilder() {
 
       this.actions = new ArrayList<>();
+      this.invariants = new ArrayList<>();
+      this.listeners = new ArrayList<>();
     }
 
     /**
@@ -156,15 +488,29 @@ public final class ThreadsCollider implements AutoCloseable {
     @Override
     public TimesBuilder withAction(Runnable runnable) {
 
-      this.runnable = runnable;
-      this.actionName = null;
-      return this;
+      return withAction(runnable, null);
     }
 
     @Override
     public TimesBuilder withAction(Runnable runnable, String actionName) {
 
       this.runnable = runnable;
+      this.callable = null;
+      this.actionName = actionName;
+      return this;
+    }
+
+    @Override
+    public TimesBuilder withCallable(Callable<?> callable) {
+
+      return withCallable(callable, null);
+    }
+
+    @Override
+    public TimesBuilder withCallable(Callable<?> callable, String actionName) {
+
+      this.runnable = null;
+      this.callable = callable;
       this.actionName = actionName;
       return this;
     }
@@ -172,7 +518,10 @@ public final class ThreadsCollider implements AutoCloseable {
     @Override
     public ThreadsColliderBuilder times(int times) {
 
-      Action action = Action.of(runnable, actionName, times);
+      Action action =
+          callable == null
+              ? Action.of(runnable, actionName, times)
+              : Action.ofCallable(callable, actionName, times);
       this.actions.add(action);
       return this;
     }
@@ -192,6 +541,119 @@ public final class ThreadsCollider implements AutoCloseable {
       return this;
     }
 
+    @Override
+    public OptionalBuilder withStartBarrier(StartBarrier startBarrier) {
+
+      this.startBarrier = startBarrier;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withVirtualThreads() {
+
+      VirtualThreads.factory();
+      this.virtualThreads = true;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withIterations(int iterations) {
+
+      if (iterations < 1) {
+        throw InvalidActionRepetitionCount.of(iterations);
+      }
+
+      this.iterations = iterations;
+      this.durationNanos = 0;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withDuration(long duration, TimeUnit timeUnit) {
+
+      if (duration <= 0) {
+        throw new IllegalArgumentException(
+            String.format("Duration has to be positive, but was %d %s.", duration, timeUnit));
+      }
+
+      this.durationNanos = timeUnit.toNanos(duration);
+      this.iterations = 1;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withLatencyHistograms() {
+
+      this.latencyHistograms = true;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withColliderPool(ColliderPool colliderPool) {
+
+      this.colliderPool = colliderPool;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withDeadlockWatchdog(long interval, TimeUnit timeUnit) {
+
+      if (interval <= 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Deadlock watchdog interval has to be positive, but was %d %s.",
+                interval, timeUnit));
+      }
+
+      this.watchdogIntervalNanos = timeUnit.toNanos(interval);
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withCollisionPoints(long seed) {
+
+      this.collisionPointsSeed = seed;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withContentionMonitoring() {
+
+      this.contentionMonitoring = true;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withResourceUsage() {
+
+      this.resourceUsage = true;
+      return this;
+    }
+
+    @Override
+    public OptionalBuilder withCollisionListener(CollisionListener listener) {
+
+      if (listener == null) {
+        throw new NullPointerException("Collision listener cannot be null.");
+      }
+      this.listeners.add(listener);
+      return this;
+    }
+
+    @Override
+    public <T> OptionalBuilder withInvariant(Supplier<T> snapshot, Predicate<? super T> invariant) {
+
+      return withInvariant(snapshot, invariant, "invariant-" + (invariants.size() + 1));
+    }
+
+    @Override
+    public <T> OptionalBuilder withInvariant(
+        Supplier<T> snapshot, Predicate<? super T> invariant, String invariantName) {
+
+      this.invariants.add(Invariant.of(snapshot, invariant, invariantName));
+      return this;
+    }
+
     @Override
     public OptionalBuilder asNanoseconds() {
 
@@ -244,7 +706,37 @@ public final class ThreadsCollider implements AutoCloseable {
     @Override
     public ThreadsCollider build() {
 
-      return new ThreadsCollider(actions, timeout, timeUnit, threadsExceptionsConsumer);
+      if (virtualThreads && colliderPool != null) {
+        throw new IllegalStateException("Virtual threads cannot be borrowed from collider pool.");
+      }
+
+      if (contentionMonitoring) {
+        ThreadContention.enable();
+      }
+      if (resourceUsage) {
+        ThreadResources.enable();
+      }
+
+      StartBarrier defaultStartBarrier =
+          virtualThreads ? DEFAULT_VIRTUAL_THREADS_START_BARRIER : DEFAULT_START_BARRIER;
+
+      return new ThreadsCollider(
+          actions,
+          invariants,
+          timeout,
+          timeUnit,
+          threadsExceptionsConsumer,
+          startBarrier != null ? startBarrier : defaultStartBarrier,
+          colliderPool,
+          virtualThreads ? VirtualThreads.factory() : THREAD_FACTORY,
+          iterations,
+          durationNanos,
+          latencyHistograms,
+          watchdogIntervalNanos,
+          collisionPointsSeed,
+          contentionMonitoring,
+          resourceUsage,
+          CollisionListeners.of(listeners));
     }
   }
 }
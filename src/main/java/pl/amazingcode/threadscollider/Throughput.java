@@ -0,0 +1,150 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Locale;
+
+/**
+ * Number of actions executed by threads during collision, together with rate and fairness of
+ * threads.
+ */
+public final class Throughput {
+
+  private static final Throughput EMPTY = new Throughput(0, 0, 0, 0, 0, 1.0);
+
+  private final long operations;
+  private final long elapsedNanos;
+  private final int threads;
+  private final long minThreadOperations;
+  private final long maxThreadOperations;
+  private final double fairness;
+
+  private Throughput(
+      long operations,
+      long elapsedNanos,
+      int threads,
+      long minThreadOperations,
+      long maxThreadOperations,
+      double fairness) {
+
+    this.operations = operations;
+    this.elapsedNanos = elapsedNanos;
+    this.threads = threads;
+    this.minThreadOperations = minThreadOperations;
+    this.maxThreadOperations = maxThreadOperations;
+    this.fairness = fairness;
+  }
+
+  static Throughput of(long[] threadOperations, int count, long elapsedNanos) {
+
+    if (count == 0) {
+      return EMPTY;
+    }
+
+    long operations = 0;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    double sumOfSquares = 0;
+
+    for (int i = 0; i < count; i++) {
+      long operationsOfThread = threadOperations[i];
+      operations += operationsOfThread;
+      min = Math.min(min, operationsOfThread);
+      max = Math.max(max, operationsOfThread);
+      sumOfSquares += (double) operationsOfThread * operationsOfThread;
+    }
+
+    double fairness =
+        sumOfSquares == 0 ? 1.0 : (double) operations * operations / (count * sumOfSquares);
+    return new Throughput(operations, elapsedNanos, count, min, max, fairness);
+  }
+
+  /**
+   * Returns number of actions executed by all threads.
+   *
+   * @return number of executed actions
+   */
+  public long operations() {
+
+    return operations;
+  }
+
+  /**
+   * Returns time from the moment the first thread left the start barrier to the moment the last
+   * thread finished.
+   *
+   * @return elapsed time in nanoseconds
+   */
+  public long elapsedNanos() {
+
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns number of actions executed per second by all threads.
+   *
+   * @return executed actions per second
+   */
+  public double operationsPerSecond() {
+
+    return elapsedNanos == 0 ? 0 : operations * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  /**
+   * Returns number of threads which have finished their actions.
+   *
+   * @return number of threads
+   */
+  public int threads() {
+
+    return threads;
+  }
+
+  /**
+   * Returns the lowest number of actions executed by single thread.
+   *
+   * @return the lowest number of actions executed by single thread
+   */
+  public long minThreadOperations() {
+
+    return minThreadOperations;
+  }
+
+  /**
+   * Returns the highest number of actions executed by single thread.
+   *
+   * @return the highest number of actions executed by single thread
+   */
+  public long maxThreadOperations() {
+
+    return maxThreadOperations;
+  }
+
+  /**
+   * Returns Jain's fairness index of actions executed by threads. It is 1.0 when all threads
+   * executed the same number of actions and goes down to 1/threads when single thread executed all
+   * of them.
+   *
+   * @return fairness index from 1/threads to 1.0
+   */
+  public double fairness() {
+
+    return fairness;
+  }
+
+  @Override
+  public String toString() {
+
+    return "[operations="
+        + operations
+        + ", operationsPerSecond="
+        + String.format(Locale.ROOT, "%.1f", operationsPerSecond())
+        + ", threads="
+        + threads
+        + ", minThreadOperations="
+        + minThreadOperations
+        + ", maxThreadOperations="
+        + maxThreadOperations
+        + ", fairness="
+        + String.format(Locale.ROOT, "%.3f", fairness)
+        + "]";
+  }
+}
@@ -0,0 +1,108 @@
+package pl.amazingcode.threadscollider;
+
+import java.util.Arrays;
+
+/** Summary of times measured during collision. All values are in nanoseconds. */
+public final class Timings {
+
+  private static final Timings EMPTY = new Timings(0, 0, 0, 0, 0);
+
+  private final int count;
+  private final long min;
+  private final long p50;
+  private final long p99;
+  private final long max;
+
+  private Timings(int count, long min, long p50, long p99, long max) {
+
+    this.count = count;
+    this.min = min;
+    this.p50 = p50;
+    this.p99 = p99;
+    this.max = max;
+  }
+
+  static Timings of(long[] values, int count) {
+
+    if (count == 0) {
+      return EMPTY;
+    }
+
+    long[] sorted = Arrays.copyOf(values, count);
+    Arrays.sort(sorted);
+    return new Timings(
+        count, sorted[0], percentile(sorted, 50), percentile(sorted, 99), sorted[count - 1]);
+  }
+
+  private static long percentile(long[] sorted, int percentile) {
+
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  /**
+   * Returns number of measured times.
+   *
+   * @return number of measured times
+   */
+  public int count() {
+
+    return count;
+  }
+
+  /**
+   * Returns the shortest measured time.
+   *
+   * @return the shortest measured time in nanoseconds
+   */
+  public long min() {
+
+    return min;
+  }
+
+  /**
+   * Returns median of measured times.
+   *
+   * @return median of measured times in nanoseconds
+   */
+  public long p50() {
+
+    return p50;
+  }
+
+  /**
+   * Returns 99th percentile of measured times.
+   *
+   * @return 99th percentile of measured times in nanoseconds
+   */
+  public long p99() {
+
+    return p99;
+  }
+
+  /**
+   * Returns the longest measured time.
+   *
+   * @return the longest measured time in nanoseconds
+   */
+  public long max() {
+
+    return max;
+  }
+
+  @Override
+  public String toString() {
+
+    return "[count="
+        + count
+        + ", min="
+        + min
+        + "ns, p50="
+        + p50
+        + "ns, p99="
+        + p99
+        + "ns, max="
+        + max
+        + "ns]";
+  }
+}
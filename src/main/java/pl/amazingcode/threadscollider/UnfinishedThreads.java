@@ -2,16 +2,14 @@ package pl.amazingcode.threadscollider;
 
 import static java.lang.String.format;
 
-import java.lang.management.LockInfo;
-import java.lang.management.ManagementFactory;
-import java.lang.management.MonitorInfo;
-import java.lang.management.ThreadInfo;
-import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Exception thrown when {@link ThreadsCollider} or {@link ThreadsCollider} has not finished threads
- * within the specified timeout.
+ * within the specified timeout, or its threads were found deadlocked.
  */
 public final class UnfinishedThreads extends RuntimeException {
 
@@ -23,7 +21,17 @@ public final class UnfinishedThreads extends RuntimeException {
           + System.lineSeparator()
           + "If there are no deadlocks, increase timeout."
           + System.lineSeparator()
-          + "Deadlocked threads: [%s]";
+          + "Deadlocked threads: [%s]"
+          + System.lineSeparator()
+          + "Other unfinished threads: [%s]";
+
+  private static final String DEADLOCK_MESSAGE =
+      System.lineSeparator()
+          + "Deadlock detected by watchdog before threads completed."
+          + System.lineSeparator()
+          + "Deadlocked threads: [%s]"
+          + System.lineSeparator()
+          + "Other unfinished threads: [%s]";
 
   private UnfinishedThreads(String message) {
     super(message);
@@ -38,29 +46,59 @@ public final class UnfinishedThreads extends RuntimeException {
    */
   public static UnfinishedThreads becauseTimeoutExceeded(long timeout, TimeUnit timeUnit) {
 
-    return new UnfinishedThreads(format(MESSAGE, timeout, timeUnit, threadDump()));
+    return becauseTimeoutExceeded(
+        timeout, timeUnit, Deadlocks.deadlockedThreads(), Collections.emptyMap());
   }
 
-  private static String threadDump() {
+  /**
+   * Creates new instance of {@link UnfinishedThreads} with full stacks of deadlocked threads and of
+   * other unfinished threads of collider.
+   *
+   * @param timeout - threads timeout
+   * @param timeUnit - timeout time unit
+   * @param deadlockedThreads - ids of deadlocked threads
+   * @param unfinishedThreads - action names by ids of unfinished threads
+   * @return {@link UnfinishedThreads}
+   */
+  static UnfinishedThreads becauseTimeoutExceeded(
+      long timeout,
+      TimeUnit timeUnit,
+      long[] deadlockedThreads,
+      Map<Long, String> unfinishedThreads) {
 
-    StringBuilder threadDump = new StringBuilder(System.lineSeparator());
-    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    return new UnfinishedThreads(
+        format(
+            MESSAGE,
+            timeout,
+            timeUnit,
+            ThreadDump.of(deadlockedThreads, unfinishedThreads),
+            threadDump(unfinishedThreads, deadlockedThreads)));
+  }
 
-    for (long threadId : threadMXBean.findDeadlockedThreads()) {
-      ThreadInfo threadInfo = threadMXBean.getThreadInfo(threadId);
+  /**
+   * Creates new instance of {@link UnfinishedThreads} for threads found in deadlock before timeout.
+   *
+   * @param deadlockedThreads - ids of deadlocked threads
+   * @param unfinishedThreads - action names by ids of unfinished threads
+   * @return {@link UnfinishedThreads}
+   */
+  static UnfinishedThreads becauseDeadlockDetected(
+      long[] deadlockedThreads, Map<Long, String> unfinishedThreads) {
 
-      if (threadInfo != null) {
-        threadDump.append(threadInfo);
+    return new UnfinishedThreads(
+        format(
+            DEADLOCK_MESSAGE,
+            ThreadDump.of(deadlockedThreads, unfinishedThreads),
+            threadDump(unfinishedThreads, deadlockedThreads)));
+  }
 
-        for (MonitorInfo monitorInfo : threadInfo.getLockedMonitors()) {
-          threadDump.append(monitorInfo);
-        }
+  private static String threadDump(Map<Long, String> unfinishedThreads, long[] deadlockedThreads) {
 
-        for (LockInfo lockInfo : threadInfo.getLockedSynchronizers()) {
-          threadDump.append(lockInfo);
-        }
-      }
-    }
-    return threadDump.toString();
+    return ThreadDump.of(
+        unfinishedThreads.keySet().stream()
+            .mapToLong(Long::longValue)
+            .filter(threadId -> Arrays.stream(deadlockedThreads).noneMatch(id -> id == threadId))
+            .toArray(),
+        unfinishedThreads);
   }
 }
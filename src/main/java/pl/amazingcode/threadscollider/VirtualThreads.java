@@ -0,0 +1,38 @@
+package pl.amazingcode.threadscollider;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates virtual threads factory when running on Java 21+. Java 21 API is looked up at runtime, so
+ * the library still runs on Java 8.
+ */
+final class VirtualThreads {
+
+  private static final java.util.concurrent.ThreadFactory VIRTUAL_THREAD_FACTORY =
+      virtualThreadFactory();
+
+  private VirtualThreads() {}
+
+  static java.util.concurrent.ThreadFactory factory() {
+
+    if (VIRTUAL_THREAD_FACTORY == null) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or newer.");
+    }
+    return VIRTUAL_THREAD_FACTORY;
+  }
+
+  private static java.util.concurrent.ThreadFactory virtualThreadFactory() {
+
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Method name = builderClass.getMethod("name", String.class, long.class);
+      Method factory = builderClass.getMethod("factory");
+
+      builder = name.invoke(builder, "collider-pool-virtual-thread-", 1L);
+      return (java.util.concurrent.ThreadFactory) factory.invoke(builder);
+    } catch (ReflectiveOperationException | LinkageError exception) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package pl.amazingcode.threadscollider.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import pl.amazingcode.threadscollider.ColliderPool;
+import pl.amazingcode.threadscollider.Processors;
+
+/**
+ * Runs test as repeated collisions of threads, without building {@link
+ * pl.amazingcode.threadscollider.ThreadsCollider} in test. Without {@link #actions()} the body of
+ * test is executed by all threads at once. With {@link #actions()} the named methods of test class
+ * are executed by threads at once and then the body of test is executed once, to assert the outcome
+ * of collision.
+ *
+ * <pre>{@code
+ * @Collide(threads = 4, repetitions = 100)
+ * void Add_apples_concurrently() {
+ *   uniqueApples.add(Apple.RED);
+ * }
+ *
+ * @Collide(actions = {"increment", "decrement"}, threads = 2, repetitions = 100)
+ * void Count_concurrently() {
+ *   then(counter.value()).isZero();
+ * }
+ * }</pre>
+ *
+ * <p>Collider of each test is built on its first repetition and reused by the following ones, with
+ * threads borrowed from {@link ColliderPool#shared()}, so they stay warm for all repetitions. It is
+ * closed after all tests of class. Exceptions thrown by threads fail the repetition. Release skew
+ * and number of failures of each collision are published as report entries of the test.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@TestTemplate
+@ExtendWith(CollideExtension.class)
+public @interface Collide {
+
+  /**
+   * Number of threads executing test body, or each of {@link #actions()}. Default 0 means {@link
+   * Processors#ALL}.
+   *
+   * @return number of threads
+   */
+  int threads() default 0;
+
+  /**
+   * Number of collisions, each reported as separate repetition of test.
+   *
+   * @return number of collisions
+   */
+  int repetitions() default 1;
+
+  /**
+   * Names of methods of test class without parameters, which are collided instead of test body.
+   * Each of them is executed by {@link #threads()} threads.
+   *
+   * @return names of collided methods
+   */
+  String[] actions() default {};
+}
@@ -0,0 +1,264 @@
+package pl.amazingcode.threadscollider.junit;
+
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import pl.amazingcode.threadscollider.ActionFailure;
+import pl.amazingcode.threadscollider.ColliderPool;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.OptionalActionBuilder;
+import pl.amazingcode.threadscollider.Processors;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+/**
+ * Provides repetitions of tests annotated with {@link Collide} and runs each of them as collision
+ * of collider kept in store of test class.
+ */
+final class CollideExtension
+    implements TestTemplateInvocationContextProvider, InvocationInterceptor {
+
+  private static final String COLLIDING_TEST = "collidingTest";
+
+  @Override
+  public boolean supportsTestTemplate(ExtensionContext context) {
+
+    return context
+        .getTestMethod()
+        .map(method -> method.isAnnotationPresent(Collide.class))
+        .orElse(false);
+  }
+
+  @Override
+  public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(
+      ExtensionContext context) {
+
+    int repetitions = collide(context.getRequiredTestMethod()).repetitions();
+    if (repetitions < 1) {
+      throw new ExtensionConfigurationException(
+          String.format("Repetitions have to be positive, but were %d.", repetitions));
+    }
+
+    return IntStream.rangeClosed(1, repetitions)
+        .mapToObj(repetition -> new Repetition(repetition, repetitions));
+  }
+
+  @Override
+  public void interceptTestTemplateMethod(
+      Invocation<Void> invocation,
+      ReflectiveInvocationContext<Method> invocationContext,
+      ExtensionContext extensionContext)
+      throws Throwable {
+
+    Method method = invocationContext.getExecutable();
+    Collide collide = collide(method);
+    CollidingTest collidingTest =
+        classContext(extensionContext)
+            .getStore(ExtensionContext.Namespace.create(CollideExtension.class, method))
+            .getOrComputeIfAbsent(
+                COLLIDING_TEST,
+                key -> CollidingTest.of(method, collide, invocationContext.getTargetClass()),
+                CollidingTest.class);
+
+    CollisionReport report =
+        collidingTest.collide(
+            invocationContext.getTarget().orElse(null), invocationContext.getArguments());
+    List<Throwable> failures = failures(report);
+    publish(extensionContext, report, failures);
+
+    if (!failures.isEmpty()) {
+      invocation.skip();
+      throw failure(failures);
+    }
+
+    if (collide.actions().length == 0) {
+      invocation.skip();
+    } else {
+      invocation.proceed();
+    }
+  }
+
+  private static Collide collide(Method method) {
+
+    return method.getAnnotation(Collide.class);
+  }
+
+  private static ExtensionContext classContext(ExtensionContext context) {
+
+    ExtensionContext classContext = context;
+    while (classContext.getTestMethod().isPresent() && classContext.getParent().isPresent()) {
+      classContext = classContext.getParent().get();
+    }
+    return classContext;
+  }
+
+  private static void publish(
+      ExtensionContext context, CollisionReport report, List<Throwable> failures) {
+
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("releaseSkewP50Nanos", Long.toString(report.releaseSkew().p50()));
+    entries.put("releaseSkewMaxNanos", Long.toString(report.releaseSkew().max()));
+    entries.put("failures", Integer.toString(failures.size()));
+    context.publishReportEntry(entries);
+  }
+
+  /**
+   * Returns what threads have thrown, in order in which they have thrown it, followed by threads
+   * which have not finished.
+   */
+  private static List<Throwable> failures(CollisionReport report) {
+
+    List<Throwable> failures = new ArrayList<>();
+    for (ActionFailure failure : report.failures()) {
+      Throwable exception = failure.exception();
+      failures.add(exception instanceof ThrownByTest ? exception.getCause() : exception);
+    }
+    report.unfinishedThreads().ifPresent(failures::add);
+    return failures;
+  }
+
+  private static Throwable failure(List<Throwable> failures) {
+
+    Throwable failure = failures.get(0);
+    for (Throwable suppressed : failures.subList(1, failures.size())) {
+      failure.addSuppressed(suppressed);
+    }
+    return failure;
+  }
+
+  private static final class Repetition implements TestTemplateInvocationContext {
+
+    private final int repetition;
+    private final int repetitions;
+
+    private Repetition(int repetition, int repetitions) {
+
+      this.repetition = repetition;
+      this.repetitions = repetitions;
+    }
+
+    @Override
+    public String getDisplayName(int invocationIndex) {
+
+      return "collision " + repetition + " of " + repetitions;
+    }
+  }
+
+  /**
+   * Wraps errors and checked exceptions thrown by test methods, so that collider reports them as
+   * failures of actions, like unchecked exceptions.
+   */
+  private static final class ThrownByTest extends RuntimeException {
+
+    private ThrownByTest(Throwable cause) {
+
+      super(cause);
+    }
+  }
+
+  /**
+   * Collider of single test with test instance and arguments of current repetition. Threads invoke
+   * methods reflectively and let what they have thrown, including assertion errors, propagate to
+   * collider, which reports it as failures of actions.
+   */
+  private static final class CollidingTest implements ExtensionContext.Store.CloseableResource {
+
+    private final ThreadsCollider threadsCollider;
+    private volatile Object target;
+    private volatile Object[] arguments;
+
+    private CollidingTest(Method method, Collide collide, Class<?> testClass) {
+
+      int threads = collide.threads() == 0 ? Processors.ALL : collide.threads();
+      List<Method> actions = actions(method, collide.actions(), testClass);
+      Method first = actions.get(0);
+      OptionalActionBuilder builder =
+          threadsCollider().withAction(() -> invoke(first), first.getName()).times(threads);
+      for (Method action : actions.subList(1, actions.size())) {
+        builder = builder.withAction(() -> invoke(action), action.getName()).times(threads);
+      }
+      this.threadsCollider = builder.withColliderPool(ColliderPool.shared()).build();
+    }
+
+    private static CollidingTest of(Method method, Collide collide, Class<?> testClass) {
+
+      return new CollidingTest(method, collide, testClass);
+    }
+
+    private static List<Method> actions(Method method, String[] names, Class<?> testClass) {
+
+      if (names.length == 0) {
+        method.setAccessible(true);
+        return Collections.singletonList(method);
+      }
+
+      List<Method> actions = new ArrayList<>();
+      for (String name : names) {
+        Method action =
+            find(testClass, name)
+                .orElseThrow(
+                    () ->
+                        new ExtensionConfigurationException(
+                            String.format(
+                                "Method %s without parameters not found in %s.",
+                                name, testClass.getName())));
+        action.setAccessible(true);
+        actions.add(action);
+      }
+      return actions;
+    }
+
+    private static Optional<Method> find(Class<?> type, String name) {
+
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        try {
+          return Optional.of(current.getDeclaredMethod(name));
+        } catch (NoSuchMethodException exception) {
+          // look in superclass
+        }
+      }
+      return Optional.empty();
+    }
+
+    private CollisionReport collide(Object target, List<Object> arguments) {
+
+      this.target = target;
+      this.arguments = arguments.toArray();
+      return threadsCollider.collide();
+    }
+
+    private void invoke(Method action) {
+
+      try {
+        action.invoke(target, action.getParameterCount() == 0 ? new Object[0] : arguments);
+      } catch (InvocationTargetException exception) {
+        Throwable cause = exception.getCause();
+        throw cause instanceof RuntimeException
+            ? (RuntimeException) cause
+            : new ThrownByTest(cause);
+      } catch (IllegalAccessException exception) {
+        throw new ThrownByTest(exception);
+      }
+    }
+
+    @Override
+    public void close() {
+
+      threadsCollider.close();
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package pl.amazingcode.threadscollider;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder events of collider, compiled for Java 11 into multi-release jar and loaded by
+ * {@link FlightRecorderEvents} only when Flight Recorder is available. Each method checks whether
+ * its event type is enabled before creating the event, so disabled events cost a single field
+ * read.
+ */
+final class JfrEvents extends FlightRecorderEvents {
+
+  private static final String CATEGORY = "Threads Collider";
+
+  private static final EventType POOL_CREATED = EventType.getEventType(PoolCreated.class);
+  private static final EventType THREAD_READY = EventType.getEventType(ThreadReady.class);
+  private static final EventType BARRIER_RELEASED = EventType.getEventType(BarrierReleased.class);
+  private static final EventType ACTION = EventType.getEventType(ActionSpan.class);
+  private static final EventType TIMEOUT_EXCEEDED = EventType.getEventType(TimeoutExceeded.class);
+  private static final EventType DEADLOCK_DETECTED = EventType.getEventType(DeadlockDetected.class);
+
+  @Override
+  void commitPoolCreated(int threads, boolean shared) {
+
+    if (POOL_CREATED.isEnabled()) {
+      PoolCreated event = new PoolCreated();
+      event.threads = threads;
+      event.shared = shared;
+      event.commit();
+    }
+  }
+
+  @Override
+  void commitThreadReady(String actionName, int party, int round) {
+
+    if (THREAD_READY.isEnabled()) {
+      ThreadReady event = new ThreadReady();
+      event.actionName = actionName;
+      event.party = party;
+      event.round = round;
+      event.commit();
+    }
+  }
+
+  @Override
+  void commitBarrierReleased(String actionName, int party, int round) {
+
+    if (BARRIER_RELEASED.isEnabled()) {
+      BarrierReleased event = new BarrierReleased();
+      event.actionName = actionName;
+      event.party = party;
+      event.round = round;
+      event.commit();
+    }
+  }
+
+  @Override
+  Object beginAction(String actionName, int party, int round) {
+
+    if (!ACTION.isEnabled()) {
+      return null;
+    }
+    ActionSpan event = new ActionSpan();
+    event.actionName = actionName;
+    event.party = party;
+    event.round = round;
+    event.begin();
+    return event;
+  }
+
+  @Override
+  void commitAction(Object span, long operations, boolean failed) {
+
+    ActionSpan event = (ActionSpan) span;
+    event.operations = operations;
+    event.failed = failed;
+    event.commit();
+  }
+
+  @Override
+  void commitTimeoutExceeded(long timeoutNanos, int unfinishedThreads) {
+
+    if (TIMEOUT_EXCEEDED.isEnabled()) {
+      TimeoutExceeded event = new TimeoutExceeded();
+      event.timeout = timeoutNanos;
+      event.unfinishedThreads = unfinishedThreads;
+      event.commit();
+    }
+  }
+
+  @Override
+  void commitDeadlockDetected(int deadlockedThreads, int unfinishedThreads) {
+
+    if (DEADLOCK_DETECTED.isEnabled()) {
+      DeadlockDetected event = new DeadlockDetected();
+      event.deadlockedThreads = deadlockedThreads;
+      event.unfinishedThreads = unfinishedThreads;
+      event.commit();
+    }
+  }
+
+  @Name("pl.amazingcode.threadscollider.PoolCreated")
+  @Label("Collider Pool Created")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class PoolCreated extends Event {
+
+    @Label("Prestarted Threads")
+    int threads;
+
+    @Label("Shared")
+    boolean shared;
+  }
+
+  @Name("pl.amazingcode.threadscollider.ThreadReady")
+  @Label("Thread Ready")
+  @Description("Thread arrived at the start barrier.")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class ThreadReady extends Event {
+
+    @Label("Action Name")
+    String actionName;
+
+    @Label("Party")
+    int party;
+
+    @Label("Collision")
+    int round;
+  }
+
+  @Name("pl.amazingcode.threadscollider.BarrierReleased")
+  @Label("Barrier Released")
+  @Description("Thread was released by the start barrier.")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class BarrierReleased extends Event {
+
+    @Label("Action Name")
+    String actionName;
+
+    @Label("Party")
+    int party;
+
+    @Label("Collision")
+    int round;
+  }
+
+  @Name("pl.amazingcode.threadscollider.Action")
+  @Label("Action")
+  @Description("Actions executed by thread from its release to its finish.")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class ActionSpan extends Event {
+
+    @Label("Action Name")
+    String actionName;
+
+    @Label("Party")
+    int party;
+
+    @Label("Collision")
+    int round;
+
+    @Label("Operations")
+    long operations;
+
+    @Label("Failed")
+    boolean failed;
+  }
+
+  @Name("pl.amazingcode.threadscollider.TimeoutExceeded")
+  @Label("Timeout Exceeded")
+  @Description("Threads have not finished collision within timeout.")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class TimeoutExceeded extends Event {
+
+    @Label("Timeout")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeout;
+
+    @Label("Unfinished Threads")
+    int unfinishedThreads;
+  }
+
+  @Name("pl.amazingcode.threadscollider.DeadlockDetected")
+  @Label("Deadlock Detected")
+  @Description("Deadlock watchdog found deadlocked threads of collision.")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class DeadlockDetected extends Event {
+
+    @Label("Deadlocked Threads")
+    int deadlockedThreads;
+
+    @Label("Unfinished Threads")
+    int unfinishedThreads;
+  }
+}
@@ -35,4 +35,15 @@ final class Action_Scenarios {
         .isInstanceOf(NullPointerException.class)
         .hasMessage("Action runnable cannot be null.");
   }
+
+  @Test
+  void Report_error_on_null_callable() {
+    // When
+    Throwable throwable = catchThrowable(() -> Action.ofCallable(null, "action", 1));
+
+    // Then
+    then(throwable)
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("Action callable cannot be null.");
+  }
 }
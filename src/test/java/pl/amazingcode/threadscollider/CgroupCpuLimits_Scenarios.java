@@ -0,0 +1,160 @@
+package pl.amazingcode.threadscollider;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class CgroupCpuLimits_Scenarios {
+
+  private static final String V1_MOUNTS =
+      "33 32 0:29 / /sys/fs/cgroup/cpu,cpuacct rw,relatime - cgroup cgroup rw,cpu,cpuacct\n"
+          + "35 32 0:31 / /sys/fs/cgroup/cpuset rw,relatime - cgroup cgroup rw,cpuset\n"
+          + "42 32 0:38 / /sys/fs/cgroup/unified rw,relatime - cgroup2 cgroup2 rw\n";
+
+  private static final String V2_MOUNTS =
+      "32 24 0:28 / /sys/fs/cgroup rw,nosuid,relatime shared:9 - cgroup2 cgroup2 rw\n";
+
+  @TempDir Path root;
+
+  @Test
+  void Limit_processors_by_cgroup_v2_quota_rounded_up() throws IOException {
+
+    // Given
+    write("proc/self/cgroup", "0::/ci/job\n");
+    write("proc/self/mountinfo", V2_MOUNTS);
+    write("sys/fs/cgroup/ci/job/cpu.max", "150000 100000\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(64, root);
+
+    // Then
+    then(usable).isEqualTo(2);
+  }
+
+  @Test
+  void Take_the_lowest_quota_of_cgroup_v2_hierarchy() throws IOException {
+
+    // Given
+    write("proc/self/cgroup", "0::/ci/job\n");
+    write("proc/self/mountinfo", V2_MOUNTS);
+    write("sys/fs/cgroup/ci/cpu.max", "100000 100000\n");
+    write("sys/fs/cgroup/ci/job/cpu.max", "max 100000\n");
+    write("sys/fs/cgroup/ci/job/cpuset.cpus.effective", "0-7\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(64, root);
+
+    // Then
+    then(usable).isEqualTo(1);
+  }
+
+  @Test
+  void Limit_processors_by_cgroup_v2_cpuset() throws IOException {
+
+    // Given
+    write("proc/self/cgroup", "0::/\n");
+    write("proc/self/mountinfo", V2_MOUNTS);
+    write("sys/fs/cgroup/cpu.max", "max 100000\n");
+    write("sys/fs/cgroup/cpuset.cpus.effective", "0-3,8,10-11\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(64, root);
+
+    // Then
+    then(usable).isEqualTo(7);
+  }
+
+  @Test
+  void Prefer_cgroup_v1_controllers_in_hybrid_hierarchy() throws IOException {
+
+    // Given
+    write(
+        "proc/self/cgroup",
+        "3:cpuset:/docker/abc\n" + "2:cpu,cpuacct:/docker/abc\n" + "0::/docker/abc\n");
+    write("proc/self/mountinfo", V1_MOUNTS);
+    write("sys/fs/cgroup/cpu,cpuacct/docker/abc/cpu.cfs_quota_us", "400000\n");
+    write("sys/fs/cgroup/cpu,cpuacct/docker/abc/cpu.cfs_period_us", "100000\n");
+    write("sys/fs/cgroup/cpuset/docker/abc/cpuset.cpus", "0-2\n");
+    write("sys/fs/cgroup/unified/docker/abc/cpu.max", "100000 100000\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(64, root);
+
+    // Then
+    then(usable).isEqualTo(3);
+  }
+
+  @Test
+  void Resolve_cgroup_v1_path_within_container_namespace() throws IOException {
+
+    // Given
+    write("proc/self/cgroup", "2:cpu,cpuacct:/docker/abc\n");
+    write(
+        "proc/self/mountinfo",
+        "33 32 0:29 /docker/abc /sys/fs/cgroup/cpu,cpuacct ro - cgroup cgroup rw,cpu,cpuacct\n");
+    write("sys/fs/cgroup/cpu,cpuacct/cpu.cfs_quota_us", "200000\n");
+    write("sys/fs/cgroup/cpu,cpuacct/cpu.cfs_period_us", "100000\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(64, root);
+
+    // Then
+    then(usable).isEqualTo(2);
+  }
+
+  @Test
+  void Use_available_processors_without_limits() throws IOException {
+
+    // Given
+    write("proc/self/cgroup", "2:cpu,cpuacct:/\n");
+    write("proc/self/mountinfo", V1_MOUNTS);
+    write("sys/fs/cgroup/cpu,cpuacct/cpu.cfs_quota_us", "-1\n");
+    write("sys/fs/cgroup/cpu,cpuacct/cpu.cfs_period_us", "100000\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(4, root);
+
+    // Then
+    then(usable).isEqualTo(4);
+  }
+
+  @Test
+  void Use_available_processors_without_control_groups() {
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(4, root);
+
+    // Then
+    then(usable).isEqualTo(4);
+  }
+
+  @Test
+  void Never_exceed_available_processors() throws IOException {
+
+    // Given
+    write("proc/self/cgroup", "0::/\n");
+    write("proc/self/mountinfo", V2_MOUNTS);
+    write("sys/fs/cgroup/cpuset.cpus.effective", "0-15\n");
+
+    // When
+    int usable = CgroupCpuLimits.usableProcessors(2, root);
+
+    // Then
+    then(usable).isEqualTo(2);
+  }
+
+  private void write(String file, String content) throws IOException {
+
+    Path path = root.resolve(file);
+    Files.createDirectories(path.getParent());
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+  }
+}
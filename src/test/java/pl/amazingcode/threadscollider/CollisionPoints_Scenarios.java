@@ -0,0 +1,71 @@
+package pl.amazingcode.threadscollider;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.within;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class CollisionPoints_Scenarios {
+
+  private static final int DELAYS = 10_000;
+
+  @Test
+  void Draw_the_same_sequence_for_the_same_seed_thread_and_round() {
+    // When
+    long[] sequence = sequence(42, 1, 7);
+    long[] sameSequence = sequence(42, 1, 7);
+
+    // Then
+    then(sameSequence).isEqualTo(sequence);
+    then(sequence(43, 1, 7)).isNotEqualTo(sequence);
+    then(sequence(42, 2, 7)).isNotEqualTo(sequence);
+    then(sequence(42, 1, 8)).isNotEqualTo(sequence);
+  }
+
+  @Test
+  void Draw_no_delay_in_half_of_collision_points() {
+    // When
+    int[] delays = delays(sequence(42, 0, 1));
+
+    // Then
+    then(fraction(delays, CollisionPoints.NONE)).isCloseTo(0.5, within(0.02));
+    then(fraction(delays, CollisionPoints.SPIN)).isCloseTo(0.2, within(0.02));
+    then(fraction(delays, CollisionPoints.YIELD)).isCloseTo(0.2, within(0.02));
+    then(fraction(delays, CollisionPoints.PARK)).isCloseTo(0.1, within(0.02));
+  }
+
+  private static long[] sequence(long seed, int party, int round) {
+
+    CollisionPoints collisionPoints = new CollisionPoints(seed, party);
+    collisionPoints.reset(round);
+
+    long[] sequence = new long[DELAYS];
+    for (int i = 0; i < DELAYS; i++) {
+      sequence[i] = collisionPoints.next();
+    }
+    return sequence;
+  }
+
+  private static int[] delays(long[] sequence) {
+
+    int[] delays = new int[sequence.length];
+    for (int i = 0; i < sequence.length; i++) {
+      delays[i] = CollisionPoints.delay(sequence[i]);
+    }
+    return delays;
+  }
+
+  private static double fraction(int[] delays, int delay) {
+
+    int count = 0;
+    for (int value : delays) {
+      if (value == delay) {
+        count++;
+      }
+    }
+    return (double) count / delays.length;
+  }
+}
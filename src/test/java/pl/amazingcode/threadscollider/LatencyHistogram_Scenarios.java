@@ -0,0 +1,85 @@
+package pl.amazingcode.threadscollider;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.within;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class LatencyHistogram_Scenarios {
+
+  @ParameterizedTest
+  @CsvSource({"50, 500_000", "90, 900_000", "99, 990_000", "99.9, 999_000", "100, 1_000_000"})
+  void Report_latency_at_percentile_with_one_percent_precision(double percentile, long expected) {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    // When
+    for (long latency = 1; latency <= 1_000_000; latency++) {
+      histogram.record(latency);
+    }
+
+    // Then
+    then(histogram.count()).isEqualTo(1_000_000);
+    then(histogram.min()).isEqualTo(1);
+    then(histogram.max()).isEqualTo(1_000_000);
+    then(histogram.mean()).isCloseTo(500_000.5, within(0.001));
+    then(histogram.valueAtPercentile(percentile)).isCloseTo(expected, within(expected / 100));
+  }
+
+  @Test
+  void Record_short_latencies_exactly() {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    // When
+    histogram.record(17);
+    histogram.record(42);
+    histogram.record(255);
+
+    // Then
+    then(histogram.valueAtPercentile(0)).isEqualTo(17);
+    then(histogram.valueAtPercentile(50)).isEqualTo(42);
+    then(histogram.valueAtPercentile(100)).isEqualTo(255);
+  }
+
+  @Test
+  void Merge_histograms() {
+    // Given
+    LatencyHistogram first = new LatencyHistogram();
+    LatencyHistogram second = new LatencyHistogram();
+    LatencyHistogram merged = new LatencyHistogram();
+    first.record(100);
+    second.record(300);
+
+    // When
+    merged.add(first);
+    merged.add(second);
+
+    // Then
+    then(merged.count()).isEqualTo(2);
+    then(merged.min()).isEqualTo(100);
+    then(merged.max()).isEqualTo(300);
+    then(merged.valueAtPercentile(50)).isEqualTo(100);
+  }
+
+  @Test
+  void Reset_histogram() {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1_000_000);
+
+    // When
+    histogram.reset();
+    histogram.record(10);
+
+    // Then
+    then(histogram.count()).isEqualTo(1);
+    then(histogram.max()).isEqualTo(10);
+    then(histogram.valueAtPercentile(100)).isEqualTo(10);
+  }
+}
@@ -0,0 +1,49 @@
+package pl.amazingcode.threadscollider;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class OutcomeCounters_Scenarios {
+
+  @Test
+  void Count_outcomes_while_growing_table() {
+    // Given
+    OutcomeCounters counters = new OutcomeCounters();
+
+    // When
+    for (int value = -100; value < 100; value++) {
+      for (int times = 0; times <= value + 100; times++) {
+        counters.increment(Outcome.of(value, -value));
+      }
+    }
+
+    // Then
+    then(counters.outcomes()).hasSize(200).isSorted();
+    then(counters.count(Outcome.of(-100, 100))).isEqualTo(1);
+    then(counters.count(Outcome.of(99, -99))).isEqualTo(200);
+    then(counters.count(Outcome.of(100, -100))).isZero();
+  }
+
+  @Test
+  void Encode_outcomes_of_different_arity() {
+    // When
+    long single = Outcome.of(-1);
+    long quadruple = Outcome.of(Outcome.MIN_VALUE, 0, 1, Outcome.MAX_VALUE);
+    Throwable outOfRange = catchThrowable(() -> Outcome.of(1, Outcome.MAX_VALUE + 1));
+
+    // Then
+    then(Outcome.arity(single)).isEqualTo(1);
+    then(Outcome.value(single, 0)).isEqualTo(-1);
+    then(Outcome.toString(single)).isEqualTo("-1");
+    then(Outcome.toString(quadruple)).isEqualTo("-16384, 0, 1, 16383");
+    then(single).isNotEqualTo(Outcome.of(-1, 0));
+    then(outOfRange)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Outcome value has to be between -16384 and 16383, but was 16384.");
+  }
+}
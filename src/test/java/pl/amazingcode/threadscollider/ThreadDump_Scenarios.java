@@ -0,0 +1,70 @@
+package pl.amazingcode.threadscollider;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class ThreadDump_Scenarios {
+
+  private static final int DEPTH = 20;
+
+  private final Object monitor = new Object();
+
+  @Test
+  void Dump_full_stack_with_action_name_and_locks() throws InterruptedException {
+    // Given
+    CountDownLatch blocked = new CountDownLatch(1);
+    Thread thread = new Thread(() -> descend(DEPTH, blocked), "blocked-thread");
+    String threadDump;
+
+    // When
+    synchronized (monitor) {
+      thread.start();
+      blocked.await();
+      while (thread.getState() != Thread.State.BLOCKED) {
+        Thread.yield();
+      }
+
+      threadDump =
+          ThreadDump.of(
+              new long[] {thread.getId(), Thread.currentThread().getId()},
+              Collections.singletonMap(thread.getId(), "descend"));
+    }
+    thread.join();
+
+    // Then
+    then(threadDump)
+        .contains("\"blocked-thread\" action=descend Id=" + thread.getId() + " BLOCKED on")
+        .contains("owned by \"" + Thread.currentThread().getName() + "\"")
+        .contains("-  blocked on " + monitor.getClass().getName())
+        .contains("-  locked " + monitor.getClass().getName());
+    then(threadDump.split("ThreadDump_Scenarios.descend\\(", -1)).hasSizeGreaterThan(DEPTH);
+  }
+
+  @Test
+  void Dump_nothing_for_no_threads() {
+    // When
+    String threadDump = ThreadDump.of(new long[0], Collections.emptyMap());
+
+    // Then
+    then(threadDump).isEqualTo(System.lineSeparator());
+  }
+
+  private void descend(int depth, CountDownLatch blocked) {
+
+    if (depth > 0) {
+      descend(depth - 1, blocked);
+      return;
+    }
+
+    blocked.countDown();
+    synchronized (monitor) {
+      Thread.yield();
+    }
+  }
+}
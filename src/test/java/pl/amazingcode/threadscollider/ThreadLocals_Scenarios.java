@@ -0,0 +1,37 @@
+package pl.amazingcode.threadscollider;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class ThreadLocals_Scenarios {
+
+  @Test
+  void Remove_all_thread_locals_of_current_thread() throws InterruptedException {
+    // Given
+    assumeTrue(ThreadLocals.clearable(), "access to java.lang.Thread internals is not granted");
+    ThreadLocal<String> threadLocal = new ThreadLocal<>();
+    InheritableThreadLocal<String> inheritableThreadLocal = new InheritableThreadLocal<>();
+    String[] values = new String[2];
+
+    // When
+    Thread thread =
+        new Thread(
+            () -> {
+              threadLocal.set("foo");
+              inheritableThreadLocal.set("bar");
+              ThreadLocals.clear();
+              values[0] = threadLocal.get();
+              values[1] = inheritableThreadLocal.get();
+            });
+    thread.start();
+    thread.join();
+
+    // Then
+    then(values).containsOnlyNulls();
+  }
+}
@@ -0,0 +1,15 @@
+package pl.amazingcode.threadscollider.fixtures;
+
+import pl.amazingcode.threadscollider.junit.Collide;
+
+public final class FailingCollisions {
+
+  @Collide(threads = 2, repetitions = 3)
+  void Fail_in_every_thread() {
+
+    throw new AssertionError("foo");
+  }
+
+  @Collide(actions = "missing", threads = 2)
+  void Collide_missing_action() {}
+}
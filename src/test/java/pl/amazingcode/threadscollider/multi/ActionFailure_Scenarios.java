@@ -0,0 +1,111 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.ActionFailure;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class ActionFailure_Scenarios {
+
+  @Test
+  void Report_exceptions_with_action_and_thread_names() {
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+    List<Thread> consumerThreads = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  throw new IllegalStateException("foo");
+                },
+                "fail")
+            .times(3)
+            .withAction(() -> {}, "succeed")
+            .times(2)
+            .withAction(
+                () -> {
+                  throw new IllegalArgumentException("bar");
+                })
+            .times(1)
+            .withThreadsExceptionsConsumer(
+                exception -> {
+                  exceptions.add(exception);
+                  consumerThreads.add(Thread.currentThread());
+                })
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    List<ActionFailure> failures = report.failures();
+    then(failures)
+        .hasSize(4)
+        .isSortedAccordingTo(Comparator.comparingLong(ActionFailure::timeNanos));
+    then(failures)
+        .filteredOn(failure -> failure.actionName().equals("fail"))
+        .hasSize(3)
+        .allSatisfy(
+            failure -> {
+              then(failure.exception()).isInstanceOf(IllegalStateException.class).hasMessage("foo");
+              then(failure.threadName()).startsWith("collider-pool-").endsWith("[fail]");
+              then(failure.timeNanos()).isPositive();
+            });
+    then(failures)
+        .filteredOn(failure -> failure.actionName().equals("action-3"))
+        .singleElement()
+        .satisfies(
+            failure ->
+                then(failure.exception())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("bar"));
+    then(exceptions)
+        .containsExactlyElementsOf(
+            () -> failures.stream().map(ActionFailure::exception).iterator());
+    then(consumerThreads).containsOnly(Thread.currentThread());
+  }
+
+  @Test
+  void Report_only_exceptions_of_the_latest_collision() {
+    // Given
+    AtomicBoolean fail = new AtomicBoolean(true);
+    List<Exception> exceptions = new ArrayList<>();
+    List<CollisionReport> reports = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  if (fail.get()) {
+                    throw new IllegalStateException("foo");
+                  }
+                })
+            .times(2)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      reports.add(threadsCollider.collide());
+      fail.set(false);
+      reports.add(threadsCollider.collide());
+    }
+
+    // Then
+    then(reports.get(0).failures()).hasSize(2);
+    then(reports.get(1).failures()).isEmpty();
+    then(exceptions).hasSize(2);
+  }
+}
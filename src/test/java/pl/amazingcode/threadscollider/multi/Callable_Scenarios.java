@@ -0,0 +1,132 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Callable_Scenarios {
+
+  @Test
+  void Collect_results_of_all_threads() {
+    // Given
+    AtomicLong ids = new AtomicLong();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(ids::incrementAndGet, "nextId")
+            .times(3)
+            .withAction(() -> {}, "noop")
+            .times(1)
+            .withCallable(() -> "foo")
+            .times(2)
+            .withIterations(1_000)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.results()).hasSize(5_000);
+    then(report.actionResults()).containsOnlyKeys("nextId", "action-3");
+    then(report.actionResults().get("nextId")).hasSize(3_000).doesNotHaveDuplicates();
+    then(report.actionResults().get("action-3")).hasSize(2_000).containsOnly("foo");
+    then(report.results().subList(0, 3_000))
+        .containsExactlyElementsOf(report.actionResults().get("nextId"));
+  }
+
+  @Test
+  void Collect_results_of_threads_in_order_of_execution() {
+    // Given
+    ThreadLocal<Integer> sequence = ThreadLocal.withInitial(() -> 0);
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(
+                () -> {
+                  sequence.set(sequence.get() + 1);
+                  return sequence.get();
+                })
+            .times(1)
+            .withIterations(100)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.results()).hasSize(100).isSorted();
+  }
+
+  @Test
+  void Collect_results_of_actions_repeated_for_given_duration() {
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(System::nanoTime)
+            .times(2)
+            .withDuration(20, TimeUnit.MILLISECONDS)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.results())
+        .hasSize((int) report.throughput().operations())
+        .hasSizeGreaterThan(2)
+        .doesNotContainNull();
+  }
+
+  @Test
+  void Consume_exceptions_thrown_by_callable_actions() {
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(
+                () -> {
+                  throw new IOException("foo");
+                })
+            .times(2)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).hasSize(2).allSatisfy(exception -> then(exception).hasMessage("foo"));
+    then(report.results()).isEmpty();
+    then(report.actionResults()).containsOnlyKeys("action-1");
+  }
+}
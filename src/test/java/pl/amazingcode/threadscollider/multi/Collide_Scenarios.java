@@ -0,0 +1,154 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import pl.amazingcode.threadscollider.fixtures.Counter;
+import pl.amazingcode.threadscollider.fixtures.FailingCollisions;
+import pl.amazingcode.threadscollider.junit.Collide;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Collide_Scenarios {
+
+  private static final AtomicInteger bodyExecutions = new AtomicInteger();
+  private static final Set<Thread> bodyThreads = ConcurrentHashMap.newKeySet();
+
+  private final Counter counter = new Counter();
+
+  @Collide(threads = 4, repetitions = 10)
+  void Collide_test_body() {
+
+    bodyExecutions.incrementAndGet();
+    bodyThreads.add(Thread.currentThread());
+  }
+
+  @Collide(
+      actions = {"increment", "decrement"},
+      threads = 2,
+      repetitions = 10)
+  void Assert_outcome_of_collided_actions() {
+
+    then(counter.value()).isZero();
+  }
+
+  @Test
+  void Fail_repetitions_with_exceptions_thrown_by_threads() {
+
+    // Given
+    List<TestExecutionResult> results = new ArrayList<>();
+    List<ReportEntry> entries = new ArrayList<>();
+    TestExecutionListener listener =
+        new TestExecutionListener() {
+
+          @Override
+          public void executionFinished(TestIdentifier test, TestExecutionResult result) {
+
+            if (test.isTest()) {
+              results.add(result);
+            }
+          }
+
+          @Override
+          public void reportingEntryPublished(TestIdentifier test, ReportEntry entry) {
+
+            entries.add(entry);
+          }
+        };
+
+    // When
+    execute("Fail_in_every_thread", listener);
+
+    // Then
+    then(results).hasSize(3);
+    then(results)
+        .allSatisfy(
+            result -> {
+              then(result.getStatus()).isEqualTo(TestExecutionResult.Status.FAILED);
+              then(result.getThrowable())
+                  .hasValueSatisfying(
+                      failure -> {
+                        then(failure).isInstanceOf(AssertionError.class).hasMessage("foo");
+                        then(failure.getSuppressed()).hasSize(1);
+                      });
+            });
+    then(entries)
+        .hasSize(3)
+        .allSatisfy(
+            entry ->
+                then(entry.getKeyValuePairs())
+                    .containsEntry("failures", "2")
+                    .containsKeys("releaseSkewP50Nanos", "releaseSkewMaxNanos"));
+  }
+
+  @Test
+  void Reject_missing_action() {
+
+    // Given
+    List<Throwable> failures = new ArrayList<>();
+    TestExecutionListener listener =
+        new TestExecutionListener() {
+
+          @Override
+          public void executionFinished(TestIdentifier test, TestExecutionResult result) {
+
+            result.getThrowable().ifPresent(failures::add);
+          }
+        };
+
+    // When
+    execute("Collide_missing_action", listener);
+
+    // Then
+    then(failures)
+        .singleElement()
+        .satisfies(
+            failure ->
+                then(failure)
+                    .hasMessage(
+                        "Method missing without parameters not found in "
+                            + FailingCollisions.class.getName()
+                            + "."));
+  }
+
+  private static void execute(String method, TestExecutionListener listener) {
+
+    LauncherFactory.create()
+        .execute(
+            LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectMethod(FailingCollisions.class, method))
+                .build(),
+            listener);
+  }
+
+  @AfterAll
+  static void Reuse_the_same_threads_in_all_repetitions() {
+
+    then(bodyExecutions).hasValue(40);
+    then(bodyThreads).hasSize(4);
+  }
+
+  void increment() {
+
+    counter.increment();
+  }
+
+  void decrement() {
+
+    counter.decrement();
+  }
+}
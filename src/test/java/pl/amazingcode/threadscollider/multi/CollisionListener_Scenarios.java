@@ -0,0 +1,303 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionListener;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class CollisionListener_Scenarios {
+
+  @Test
+  void Notify_listener_about_each_phase_of_each_thread() {
+
+    // Given
+    CountingListener listener = new CountingListener();
+    AtomicInteger counter = new AtomicInteger();
+    List<CollisionReport> reports = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::incrementAndGet, "increment")
+            .times(2)
+            .withIterations(10)
+            .withCollisionListener(listener)
+            .build()) {
+
+      reports.add(threadsCollider.collide());
+      reports.add(threadsCollider.collide());
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(40);
+    then(listener.collisions).containsExactly("start 1", "end", "start 2", "end");
+    then(listener.reports).containsExactlyElementsOf(reports);
+    then(listener.ready.get()).isEqualTo(4);
+    then(listener.released.get()).isEqualTo(4);
+    then(listener.started.get()).isEqualTo(4);
+    then(listener.ended.get()).isEqualTo(4);
+    then(listener.operations.get()).isEqualTo(40);
+    then(listener.actionNames).containsOnly("increment");
+    then(listener.exceptions).isEmpty();
+  }
+
+  @Test
+  void Notify_listener_about_exception_thrown_by_action() {
+
+    // Given
+    CountingListener listener = new CountingListener();
+    IllegalStateException exception = new IllegalStateException("foo");
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  throw exception;
+                },
+                "fail")
+            .times(2)
+            .withCollisionListener(listener)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      threadsCollider.collide();
+    }
+
+    // Then
+    then(listener.exceptions).containsExactly(exception, exception);
+    then(listener.ended.get()).isEqualTo(2);
+    then(listener.operations.get()).isZero();
+    then(exceptions).containsExactly(exception, exception);
+  }
+
+  @Test
+  void Notify_listeners_in_order_of_registration() {
+
+    // Given
+    Queue<String> calls = new ConcurrentLinkedQueue<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(1)
+            .withCollisionListener(
+                new CollisionListener() {
+
+                  @Override
+                  public void onCollisionStart(int collision) {
+
+                    calls.add("first");
+                  }
+                })
+            .withCollisionListener(
+                new CollisionListener() {
+
+                  @Override
+                  public void onCollisionStart(int collision) {
+
+                    calls.add("second");
+                  }
+                })
+            .build()) {
+
+      threadsCollider.collide();
+    }
+
+    // Then
+    then(calls).containsExactly("first", "second");
+  }
+
+  @Test
+  void Report_exception_thrown_by_listener_as_failure_of_thread() {
+
+    // Given
+    IllegalStateException exception = new IllegalStateException("foo");
+    AtomicInteger counter = new AtomicInteger();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::incrementAndGet, "increment")
+            .times(2)
+            .withCollisionListener(
+                new CollisionListener() {
+
+                  @Override
+                  public void onRelease(String actionName, int party, int collision) {
+
+                    throw exception;
+                  }
+                })
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(2);
+    then(report.failures()).hasSize(2);
+    then(report.failures().get(0).exception()).isSameAs(exception);
+    then(report.failures().get(0).actionName()).isEqualTo("increment");
+    then(exceptions).containsExactly(exception, exception);
+  }
+
+  @Test
+  void Pass_exception_thrown_by_listener_outside_of_threads_to_consumer() {
+
+    // Given
+    IllegalStateException exception = new IllegalStateException("foo");
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(1)
+            .withCollisionListener(
+                new CollisionListener() {
+
+                  @Override
+                  public void onCollisionEnd(CollisionReport report) {
+
+                    throw exception;
+                  }
+                })
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(report.failures()).isEmpty();
+    then(exceptions).containsExactly(exception);
+  }
+
+  @Test
+  void Do_not_count_listener_in_durations_of_actions() {
+
+    // Given
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {}, "empty")
+            .times(1)
+            .withCollisionListener(
+                new CollisionListener() {
+
+                  @Override
+                  public void onActionEnd(
+                      String actionName, int party, int collision, long operations) {
+
+                    try {
+                      TimeUnit.MILLISECONDS.sleep(200);
+                    } catch (InterruptedException exception) {
+                      Thread.currentThread().interrupt();
+                    }
+                  }
+                })
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(report.actionDurations().get("empty").max())
+        .isLessThan(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void Reject_null_listener() {
+
+    // When
+    Throwable exception =
+        catchThrowable(
+            () -> threadsCollider().withAction(() -> {}).times(1).withCollisionListener(null));
+
+    // Then
+    then(exception)
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("Collision listener cannot be null.");
+  }
+
+  private static final class CountingListener implements CollisionListener {
+
+    private final List<String> collisions = new ArrayList<>();
+    private final List<CollisionReport> reports = new ArrayList<>();
+    private final AtomicInteger ready = new AtomicInteger();
+    private final AtomicInteger released = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger ended = new AtomicInteger();
+    private final AtomicLong operations = new AtomicLong();
+    private final Queue<String> actionNames = new ConcurrentLinkedQueue<>();
+    private final Queue<Exception> exceptions = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void onCollisionStart(int collision) {
+
+      collisions.add("start " + collision);
+    }
+
+    @Override
+    public void onThreadReady(String actionName, int party, int collision) {
+
+      ready.incrementAndGet();
+    }
+
+    @Override
+    public void onRelease(String actionName, int party, int collision) {
+
+      released.incrementAndGet();
+    }
+
+    @Override
+    public void onActionStart(String actionName, int party, int collision) {
+
+      started.incrementAndGet();
+      actionNames.add(actionName);
+    }
+
+    @Override
+    public void onActionEnd(String actionName, int party, int collision, long operations) {
+
+      ended.incrementAndGet();
+      this.operations.addAndGet(operations);
+    }
+
+    @Override
+    public void onException(String actionName, int party, int collision, Exception exception) {
+
+      exceptions.add(exception);
+    }
+
+    @Override
+    public void onCollisionEnd(CollisionReport report) {
+
+      collisions.add("end");
+      reports.add(report);
+    }
+  }
+}
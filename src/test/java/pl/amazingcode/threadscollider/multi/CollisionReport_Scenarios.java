@@ -0,0 +1,51 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.RepeatedTest;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+import pl.amazingcode.threadscollider.Timings;
+import pl.amazingcode.threadscollider.fixtures.Counter;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class CollisionReport_Scenarios {
+
+  @RepeatedTest(10)
+  void Report_release_skew_and_action_durations() {
+    // Given
+    Counter counter = new Counter();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::increment, "increment")
+            .times(2)
+            .withAction(counter::decrement)
+            .times(3)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    Timings releaseSkew = report.releaseSkew();
+    then(releaseSkew.count()).isEqualTo(5);
+    then(releaseSkew.min()).isZero();
+    then(releaseSkew.p50()).isBetween(releaseSkew.min(), releaseSkew.p99());
+    then(releaseSkew.p99()).isBetween(releaseSkew.p50(), releaseSkew.max());
+
+    then(report.actionDurations()).containsOnlyKeys("increment", "action-2");
+    then(report.actionDurations().get("increment").count()).isEqualTo(2);
+    then(report.actionDurations().get("action-2").count()).isEqualTo(3);
+    then(report.timeToReleaseNanos()).isPositive();
+    then(report.timeToReadyNanos()).isPositive().isLessThan(report.timeToReleaseNanos());
+    then(report.wallTimeNanos())
+        .isGreaterThanOrEqualTo(report.timeToReleaseNanos() + releaseSkew.max())
+        .isGreaterThanOrEqualTo(report.actionDurations().get("increment").max());
+  }
+}
@@ -0,0 +1,149 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.Contention;
+import pl.amazingcode.threadscollider.StartBarrier;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Contention_Scenarios {
+
+  @Test
+  void Report_threads_blocked_on_monitor() {
+
+    // Given
+    Object monitor = new Object();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  synchronized (monitor) {
+                    sleep(10);
+                  }
+                },
+                "synchronized")
+            .times(2)
+            .withAction(() -> sleep(10), "free")
+            .times(1)
+            .withIterations(5)
+            .withContentionMonitoring()
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.actionContention()).containsOnlyKeys("synchronized", "free");
+    Contention synchronizedContention = report.actionContention().get("synchronized");
+    then(synchronizedContention.blockedCount()).isPositive();
+    then(synchronizedContention.blockedTimeMillis()).isPositive();
+    then(synchronizedContention.waitedCount()).isGreaterThanOrEqualTo(10);
+    then(report.actionContention().get("free").blockedCount()).isZero();
+  }
+
+  @Test
+  void Report_threads_waiting_for_lock() {
+
+    // Given
+    ReentrantLock lock = new ReentrantLock();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  lock.lock();
+                  try {
+                    sleep(10);
+                  } finally {
+                    lock.unlock();
+                  }
+                },
+                "locked")
+            .times(2)
+            .withIterations(5)
+            .withContentionMonitoring()
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    Contention contention = report.actionContention().get("locked");
+    then(contention.waitedCount()).isGreaterThan(10);
+    then(contention.waitedTimeMillis()).isPositive();
+  }
+
+  @Test
+  void Do_not_count_waiting_on_start_barrier() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::incrementAndGet, "increment")
+            .times(4)
+            .withStartBarrier(StartBarrier.PHASER)
+            .withContentionMonitoring()
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(4);
+    then(report.actionContention().get("increment").waitedCount()).isZero();
+  }
+
+  @Test
+  void Do_not_report_contention_without_monitoring() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(counter::incrementAndGet).times(2).build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(2);
+    then(report.actionContention()).isEmpty();
+  }
+
+  private static void sleep(long millis) {
+
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+import pl.amazingcode.threadscollider.UnfinishedThreads;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class DeadlockWatchdog_Scenarios {
+
+  private static final long TIMEOUT_SECONDS = 60;
+
+  @Test
+  void Fail_fast_on_threads_deadlocked_on_monitors() {
+    // Given
+    Object list1 = new Object();
+    Object list2 = new Object();
+    CountDownLatch firstLocksTaken = new CountDownLatch(2);
+    List<Exception> exceptions = new ArrayList<>();
+    long startTime = System.nanoTime();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> update(list1, list2, firstLocksTaken), "update1")
+            .times(1)
+            .withAction(() -> update(list2, list1, firstLocksTaken), "update2")
+            .times(1)
+            .withDeadlockWatchdog(10, TimeUnit.MILLISECONDS)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .withAwaitTerminationTimeout(TIMEOUT_SECONDS)
+            .asSeconds()
+            .build()) {
+
+      threadsCollider.collide();
+    }
+
+    // Then
+    then(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS / 2));
+    then(exceptions)
+        .singleElement()
+        .isInstanceOf(UnfinishedThreads.class)
+        .satisfies(
+            exception ->
+                then(exception.getMessage())
+                    .contains("Deadlock detected")
+                    .contains("[update1]")
+                    .contains("[update2]"));
+  }
+
+  @Test
+  void Fail_fast_on_threads_deadlocked_on_locks() {
+    // Given
+    Lock lock1 = new ReentrantLock();
+    Lock lock2 = new ReentrantLock();
+    CountDownLatch firstLocksTaken = new CountDownLatch(2);
+    List<Exception> exceptions = new ArrayList<>();
+    long startTime = System.nanoTime();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> update(lock1, lock2, firstLocksTaken), "update1")
+            .times(1)
+            .withAction(() -> update(lock2, lock1, firstLocksTaken), "update2")
+            .times(1)
+            .withDeadlockWatchdog(10, TimeUnit.MILLISECONDS)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .withAwaitTerminationTimeout(TIMEOUT_SECONDS)
+            .asSeconds()
+            .build()) {
+
+      threadsCollider.collide();
+    }
+
+    // Then
+    then(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS / 2));
+    then(exceptions)
+        .singleElement()
+        .isInstanceOf(UnfinishedThreads.class)
+        .satisfies(exception -> then(exception.getMessage()).contains("Deadlock detected"));
+  }
+
+  @Test
+  void Do_not_report_threads_finished_before_watchdog_interval() {
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(2)
+            .withDeadlockWatchdog(1, TimeUnit.NANOSECONDS)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      for (int collision = 0; collision < 100; collision++) {
+        threadsCollider.collide();
+      }
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+  }
+
+  @Test
+  void Reject_not_positive_watchdog_interval() {
+    // When
+    Throwable throwable =
+        catchThrowable(
+            () ->
+                threadsCollider()
+                    .withAction(() -> {})
+                    .times(2)
+                    .withDeadlockWatchdog(0, TimeUnit.MILLISECONDS));
+
+    // Then
+    then(throwable)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Deadlock watchdog interval has to be positive, but was 0 MILLISECONDS.");
+  }
+
+  private static void update(Object first, Object second, CountDownLatch firstLocksTaken) {
+
+    synchronized (first) {
+      awaitOther(firstLocksTaken);
+      synchronized (second) {
+        Thread.yield();
+      }
+    }
+  }
+
+  private static void update(Lock first, Lock second, CountDownLatch firstLocksTaken) {
+
+    first.lock();
+    try {
+      awaitOther(firstLocksTaken);
+      second.lock();
+      second.unlock();
+    } finally {
+      first.unlock();
+    }
+  }
+
+  private static void awaitOther(CountDownLatch firstLocksTaken) {
+
+    firstLocksTaken.countDown();
+    try {
+      firstLocksTaken.await();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class FlightRecorder_Scenarios {
+
+  private static final String PREFIX = "pl.amazingcode.threadscollider.";
+
+  @Test
+  void Record_thread_ready_barrier_release_and_action_span_of_each_thread() throws IOException {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    List<RecordedEvent> events;
+
+    // When
+    try (Recording recording = new Recording()) {
+      recording.enable(PREFIX + "ThreadReady");
+      recording.enable(PREFIX + "BarrierReleased");
+      recording.enable(PREFIX + "Action");
+      recording.start();
+
+      try (ThreadsCollider threadsCollider =
+          threadsCollider()
+              .withAction(counter::incrementAndGet, "increment")
+              .times(2)
+              .withIterations(10)
+              .build()) {
+
+        threadsCollider.collide();
+      }
+
+      recording.stop();
+      events = colliderEvents(recording);
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(20);
+    then(names(events))
+        .containsOnly(PREFIX + "ThreadReady", PREFIX + "BarrierReleased", PREFIX + "Action");
+    List<RecordedEvent> actions = events(events, "Action");
+    then(actions)
+        .hasSize(2)
+        .allSatisfy(
+            action -> {
+              then(action.getString("actionName")).isEqualTo("increment");
+              then(action.getLong("operations")).isEqualTo(10);
+              then(action.getBoolean("failed")).isFalse();
+              then(action.getDuration()).isPositive();
+            });
+    then(events(events, "ThreadReady")).hasSize(2);
+    then(events(events, "BarrierReleased")).hasSize(2);
+  }
+
+  @Test
+  void Record_no_events_unless_enabled() throws IOException {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    List<RecordedEvent> events;
+
+    // When
+    try (Recording recording = new Recording()) {
+      recording.start();
+
+      try (ThreadsCollider threadsCollider =
+          threadsCollider().withAction(counter::incrementAndGet).times(2).build()) {
+
+        threadsCollider.collide();
+      }
+
+      recording.stop();
+      events = colliderEvents(recording);
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(2);
+    then(events).isEmpty();
+  }
+
+  private static List<RecordedEvent> colliderEvents(Recording recording) throws IOException {
+
+    Path file = Files.createTempFile("collision", ".jfr");
+    try {
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName().startsWith(PREFIX))
+          .collect(Collectors.toList());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static List<String> names(List<RecordedEvent> events) {
+
+    return events.stream()
+        .map(event -> event.getEventType().getName())
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(PREFIX + name))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,209 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.InvariantViolation;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+import pl.amazingcode.threadscollider.fixtures.Counter;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Invariant_Scenarios {
+
+  @Test
+  void Report_transient_violation_missed_by_final_state() {
+
+    // Given
+    Counter counter = new Counter();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  counter.decrement();
+                  counter.increment();
+                })
+            .times(2)
+            .withDuration(100, TimeUnit.MILLISECONDS)
+            .withInvariant(counter::value, value -> value >= 0, "nonNegative")
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(counter.value()).isZero();
+    then(report.invariantViolations()).hasSize(1);
+    InvariantViolation violation = report.invariantViolations().get(0);
+    then(violation.invariantName()).isEqualTo("nonNegative");
+    then((Integer) violation.snapshot()).isNegative();
+    then(violation.timeNanos()).isPositive();
+    then(violation.checks()).isPositive();
+    then(violation).hasMessageStartingWith("Invariant nonNegative violated after");
+    then(exceptions).containsExactly(violation);
+  }
+
+  @Test
+  void Do_not_count_observers_as_threads_of_collision() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(counter::incrementAndGet)
+            .times(2)
+            .withIterations(1_000)
+            .withInvariant(counter::get, value -> value >= 0)
+            .withInvariant(counter::get, value -> value <= 2_000)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.invariantViolations()).isEmpty();
+    then(report.throughput().operations()).isEqualTo(2_000);
+    then(report.results()).hasSize(2_000);
+    then(report.releaseSkew().count()).isEqualTo(2);
+    then(report.actionDurations()).containsOnlyKeys("action-1");
+  }
+
+  @Test
+  void Report_exception_thrown_by_invariant_as_violation() {
+
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(1)
+            .withInvariant(
+                () -> {
+                  throw new IllegalStateException("foo");
+                },
+                value -> true)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(report.invariantViolations()).hasSize(1);
+    InvariantViolation violation = report.invariantViolations().get(0);
+    then(violation.invariantName()).isEqualTo("invariant-1");
+    then(violation.snapshot()).isNull();
+    then(violation).hasCauseInstanceOf(IllegalStateException.class);
+    then(exceptions).containsExactly(violation);
+  }
+
+  @Test
+  void Report_violations_of_each_collision_separately() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    List<Exception> exceptions = new ArrayList<>();
+    List<CollisionReport> reports = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::incrementAndGet)
+            .times(2)
+            .withInvariant(counter::get, value -> value < 2, "belowTwo")
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      reports.add(threadsCollider.collide());
+      counter.set(0);
+      reports.add(threadsCollider.collide());
+    }
+
+    // Then
+    then(reports.get(0).invariantViolations()).hasSize(1);
+    then(reports.get(0).invariantViolations().get(0).snapshot()).isEqualTo(2);
+    then(reports.get(1).invariantViolations()).hasSize(1);
+    then(reports.get(1).invariantViolations().get(0))
+        .isNotSameAs(reports.get(0).invariantViolations().get(0));
+    then(exceptions).hasSize(2);
+  }
+
+  @Test
+  void Keep_observing_invariant_after_other_invariant_is_violated() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    CountDownLatch violated = new CountDownLatch(1);
+    CountDownLatch negativeObserved = new CountDownLatch(1);
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  try {
+                    violated.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(50);
+                    counter.decrementAndGet();
+                    negativeObserved.await(1, TimeUnit.SECONDS);
+                  } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                  }
+                  counter.incrementAndGet();
+                })
+            .times(1)
+            .withInvariant(
+                () -> {
+                  violated.countDown();
+                  return 0;
+                },
+                value -> false,
+                "alwaysViolated")
+            .withInvariant(
+                () -> {
+                  int value = counter.get();
+                  if (value < 0) {
+                    negativeObserved.countDown();
+                  }
+                  return value;
+                },
+                value -> value >= 0,
+                "nonNegative")
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(negativeObserved.getCount()).isZero();
+    then(report.invariantViolations())
+        .extracting(InvariantViolation::invariantName)
+        .containsExactlyInAnyOrder("alwaysViolated", "nonNegative");
+    then(exceptions).hasSize(2);
+  }
+}
@@ -0,0 +1,293 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.History;
+import pl.amazingcode.threadscollider.Linearizability;
+import pl.amazingcode.threadscollider.Operation;
+import pl.amazingcode.threadscollider.SequentialModel;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Linearizability_Scenarios {
+
+  private static final SequentialModel<Integer> COUNTER =
+      new SequentialModel<Integer>() {
+
+        @Override
+        public Integer initialState() {
+
+          return 0;
+        }
+
+        @Override
+        public Optional<Integer> apply(Integer state, Operation operation) {
+
+          return Objects.equals(operation.result(), state + 1)
+              ? Optional.of(state + 1)
+              : Optional.empty();
+        }
+      };
+
+  private static final SequentialModel<Integer> REGISTER =
+      new SequentialModel<Integer>() {
+
+        @Override
+        public Integer initialState() {
+
+          return 0;
+        }
+
+        @Override
+        public Optional<Integer> apply(Integer state, Operation operation) {
+
+          if (operation.name().equals("write")) {
+            return Optional.of((Integer) operation.argument());
+          }
+          return operation.isPending() || Objects.equals(operation.result(), state)
+              ? Optional.of(state)
+              : Optional.empty();
+        }
+      };
+
+  private static final SequentialModel<Boolean> SET =
+      new SequentialModel<Boolean>() {
+
+        @Override
+        public Boolean initialState() {
+
+          return false;
+        }
+
+        @Override
+        public Optional<Boolean> apply(Boolean present, Operation operation) {
+
+          boolean added = operation.name().equals("add");
+          return operation.result().equals(present != added)
+              ? Optional.of(added)
+              : Optional.empty();
+        }
+
+        @Override
+        public Object partition(Operation operation) {
+
+          return operation.argument();
+        }
+      };
+
+  @Test
+  void Accept_history_of_thread_safe_counter() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    History history = History.newInstance();
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(() -> history.record("increment", null, counter::incrementAndGet))
+            .times(4)
+            .withIterations(50)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      threadsCollider.collide();
+    }
+    Linearizability linearizability = Linearizability.check(history, COUNTER);
+
+    // Then
+    then(exceptions).isEmpty();
+    then(history.operations()).hasSize(200);
+    then(linearizability.isLinearizable()).as(linearizability.toString()).isTrue();
+    then(linearizability.operations()).isEmpty();
+  }
+
+  @Test
+  void Reject_read_of_stale_value_after_write_has_returned() {
+
+    // Given
+    AtomicInteger register = new AtomicInteger();
+    History history = History.newInstance();
+
+    // When
+    history.record("write", 1, () -> {});
+    history.record("read", null, register::get);
+    Linearizability linearizability = Linearizability.check(history, REGISTER);
+
+    // Then
+    then(linearizability.isLinearizable()).isFalse();
+    then(linearizability.operations()).hasSize(2);
+    then(linearizability.longestLinearization())
+        .containsExactly(linearizability.operations().get(0));
+    then(linearizability.toString())
+        .contains("is not linearizable")
+        .contains("write(1) -> null")
+        .contains("read() -> 0");
+  }
+
+  @Test
+  void Accept_read_of_value_written_by_overlapping_write() throws InterruptedException {
+
+    // Given
+    CountDownLatch writeInvoked = new CountDownLatch(1);
+    CountDownLatch readReturned = new CountDownLatch(1);
+    History history = History.newInstance();
+    Thread writer =
+        new Thread(
+            () ->
+                history.record(
+                    "write",
+                    1,
+                    () -> {
+                      writeInvoked.countDown();
+                      await(readReturned);
+                    }));
+
+    // When
+    writer.start();
+    writeInvoked.await();
+    history.record("read", null, () -> 1);
+    readReturned.countDown();
+    writer.join();
+    Linearizability linearizability = Linearizability.check(history, REGISTER);
+
+    // Then
+    then(linearizability.isLinearizable()).as(linearizability.toString()).isTrue();
+  }
+
+  @Test
+  void Linearize_pending_operation_only_when_needed() {
+
+    // Given
+    History history = History.newInstance();
+    Throwable exception =
+        catchThrowable(
+            () ->
+                history.record(
+                    "write",
+                    1,
+                    () -> {
+                      throw new IllegalStateException("foo");
+                    }));
+
+    // When
+    history.record("read", null, () -> 1);
+    history.record("read", null, () -> 1);
+    Linearizability withEffect = Linearizability.check(history, REGISTER);
+    history.clear();
+    catchThrowable(
+        () ->
+            history.record(
+                "write",
+                1,
+                () -> {
+                  throw new IllegalStateException("foo");
+                }));
+    history.record("read", null, () -> 0);
+    Linearizability withoutEffect = Linearizability.check(history, REGISTER);
+
+    // Then
+    then(exception).hasMessage("foo");
+    then(history.operations()).hasSize(2);
+    then(history.operations().get(0).isPending()).isTrue();
+    then(withEffect.isLinearizable()).as(withEffect.toString()).isTrue();
+    then(withoutEffect.isLinearizable()).as(withoutEffect.toString()).isTrue();
+  }
+
+  @Test
+  void Check_each_partition_separately() {
+
+    // Given
+    Set<Integer> set = ConcurrentHashMap.newKeySet();
+    History history = History.newInstance();
+    AtomicInteger keys = new AtomicInteger();
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(
+                () -> {
+                  int key = keys.getAndIncrement() % 8;
+                  return history.record("add", key, () -> set.add(key));
+                })
+            .times(4)
+            .withCallable(
+                () -> {
+                  int key = keys.getAndIncrement() % 8;
+                  return history.record("remove", key, () -> set.remove(key));
+                })
+            .times(4)
+            .withIterations(100)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      threadsCollider.collide();
+    }
+    Linearizability linearizable = Linearizability.check(history, SET);
+    history.record("add", 8, () -> true);
+    history.record("add", 8, () -> true);
+    Linearizability notLinearizable = Linearizability.check(history, SET);
+
+    // Then
+    then(exceptions).isEmpty();
+    then(linearizable.isLinearizable()).as(linearizable.toString()).isTrue();
+    then(notLinearizable.isLinearizable()).isFalse();
+    then(notLinearizable.operations())
+        .hasSize(2)
+        .allSatisfy(operation -> then(operation.argument()).isEqualTo(8));
+    then(notLinearizable.toString()).contains("History of partition 8 is not linearizable");
+  }
+
+  @Test
+  void Check_history_of_each_collision_separately() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    History history = History.newInstance();
+    List<Linearizability> results = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(() -> history.record("increment", null, counter::incrementAndGet))
+            .times(4)
+            .withIterations(10)
+            .build()) {
+
+      for (int collision = 0; collision < 100; collision++) {
+        counter.set(0);
+        history.clear();
+        threadsCollider.collide();
+        results.add(Linearizability.check(history, COUNTER));
+      }
+    }
+
+    // Then
+    then(results).hasSize(100).allSatisfy(result -> then(result.isLinearizable()).isTrue());
+    then(history.operations()).hasSize(40);
+  }
+
+  private static void await(CountDownLatch latch) {
+
+    try {
+      latch.await();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.Expect;
+import pl.amazingcode.threadscollider.Outcome;
+import pl.amazingcode.threadscollider.OutcomeCollider;
+import pl.amazingcode.threadscollider.OutcomeHistogram;
+import pl.amazingcode.threadscollider.ThreadsColliderFailure;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class OutcomeCollider_Scenarios {
+
+  @Test
+  void Count_outcomes_of_safe_publication() {
+    // When
+    OutcomeHistogram histogram =
+        OutcomeCollider.of(Publication::new)
+            .withActor(Publication::publish)
+            .withActor(Publication::observe)
+            .withOutcome(state -> Outcome.of(state.seenReady, state.seenValue))
+            .expect(Outcome.of(0, 0), Expect.ACCEPTABLE, "not published yet")
+            .expect(Outcome.of(0, 1), Expect.INTERESTING, "value seen before flag")
+            .expect(Outcome.of(1, 1), Expect.ACCEPTABLE, "published")
+            .expect(Outcome.of(1, 0), Expect.FORBIDDEN, "flag seen before value")
+            .withStride(300)
+            .run(10_000);
+
+    // Then
+    then(histogram.rounds()).isEqualTo(10_000);
+    then(Arrays.stream(histogram.outcomes()).map(histogram::count).sum()).isEqualTo(10_000);
+    then(histogram.hasForbidden()).isFalse();
+    then(histogram.count(Outcome.of(1, 0))).isZero();
+    then(histogram.count(Expect.ACCEPTABLE) + histogram.count(Expect.INTERESTING))
+        .isEqualTo(10_000);
+    then(histogram.toString())
+        .startsWith("Outcome")
+        .contains("1, 0", "FORBIDDEN", "flag seen before value");
+  }
+
+  @Test
+  void Classify_unexpected_outcomes_as_forbidden() {
+    // When
+    OutcomeHistogram histogram =
+        OutcomeCollider.of(Counter::new)
+            .withActor(Counter::increment)
+            .withActor(Counter::increment)
+            .withArbiter(Counter::read)
+            .withOutcome(state -> Outcome.of(state.result))
+            .expect(Outcome.of(1), Expect.INTERESTING, "lost update")
+            .run(1_000);
+
+    // Then
+    then(histogram.count(Outcome.of(1)) + histogram.count(Outcome.of(2))).isEqualTo(1_000);
+    then(histogram.expect(Outcome.of(2))).isEqualTo(Expect.FORBIDDEN);
+    then(histogram.hasForbidden()).isEqualTo(histogram.count(Outcome.of(2)) > 0);
+  }
+
+  @Test
+  void Classify_unexpected_outcomes_as_configured() {
+    // When
+    OutcomeHistogram histogram =
+        OutcomeCollider.of(Counter::new)
+            .withActor(Counter::increment)
+            .withActor(Counter::increment)
+            .withArbiter(Counter::read)
+            .withOutcome(state -> Outcome.of(state.result))
+            .expect(Outcome.of(1), Expect.INTERESTING, "lost update")
+            .expectOthers(Expect.ACCEPTABLE, "both increments visible")
+            .run(1_000);
+
+    // Then
+    then(histogram.hasForbidden()).isFalse();
+    then(histogram.expect(Outcome.of(2))).isEqualTo(Expect.ACCEPTABLE);
+  }
+
+  @Test
+  void Fail_when_actor_throws_exception() {
+    // When
+    Throwable failure =
+        catchThrowable(
+            () ->
+                OutcomeCollider.of(Counter::new)
+                    .withActor(Counter::increment)
+                    .withActor(
+                        state -> {
+                          throw new IllegalStateException("foo");
+                        })
+                    .withOutcome(state -> Outcome.of(state.result))
+                    .run(10));
+
+    // Then
+    then(failure)
+        .isInstanceOf(ThreadsColliderFailure.class)
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("foo");
+  }
+
+  @Test
+  void Reject_incomplete_configuration() {
+    // When
+    Throwable singleActor =
+        catchThrowable(
+            () ->
+                OutcomeCollider.of(Counter::new)
+                    .withActor(Counter::increment)
+                    .withOutcome(state -> Outcome.of(state.result))
+                    .run(10));
+    Throwable noOutcome =
+        catchThrowable(
+            () ->
+                OutcomeCollider.of(Counter::new)
+                    .withActor(Counter::increment)
+                    .withActor(Counter::increment)
+                    .run(10));
+    Throwable noRounds =
+        catchThrowable(
+            () ->
+                OutcomeCollider.of(Counter::new)
+                    .withActor(Counter::increment)
+                    .withActor(Counter::increment)
+                    .withOutcome(state -> Outcome.of(state.result))
+                    .run(0));
+
+    // Then
+    then(singleActor)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Outcome collider needs at least two actors.");
+    then(noOutcome)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Outcome collider needs outcome function.");
+    then(noRounds)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Rounds have to be positive, but were 0.");
+  }
+
+  private static final class Publication {
+
+    private int value;
+    private volatile boolean ready;
+    private int seenReady;
+    private int seenValue;
+
+    void publish() {
+
+      value = 1;
+      ready = true;
+    }
+
+    void observe() {
+
+      seenReady = ready ? 1 : 0;
+      seenValue = value;
+    }
+  }
+
+  private static final class Counter {
+
+    private int value;
+    private int result;
+
+    void increment() {
+
+      value++;
+    }
+
+    void read() {
+
+      result = value;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.ResourceUsage;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class ResourceUsage_Scenarios {
+
+  @Test
+  void Tell_working_action_from_waiting_one() {
+
+    // Given
+    AtomicLong sink = new AtomicLong();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> sink.addAndGet(work(20_000_000)), "work")
+            .times(1)
+            .withAction(ResourceUsage_Scenarios::sleep, "sleep")
+            .times(1)
+            .withResourceUsage()
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.actionResourceUsage()).containsOnlyKeys("work", "sleep");
+    ResourceUsage work = report.actionResourceUsage().get("work");
+    ResourceUsage sleep = report.actionResourceUsage().get("sleep");
+    then(work.cpuTimeNanos()).isGreaterThan(sleep.cpuTimeNanos());
+    then(sleep.cpuTimeNanos()).isNotNegative();
+  }
+
+  @Test
+  void Report_bytes_allocated_by_action() {
+
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withCallable(() -> new byte[1_000_000], "allocate")
+            .times(2)
+            .withIterations(10)
+            .withResourceUsage()
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(report.actionResourceUsage().get("allocate").allocatedBytes())
+        .isGreaterThanOrEqualTo(20_000_000);
+  }
+
+  @Test
+  void Do_not_report_resource_usage_when_not_requested() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(counter::incrementAndGet).times(2).build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(counter.get()).isEqualTo(2);
+    then(report.actionResourceUsage()).isEmpty();
+  }
+
+  private static long work(int iterations) {
+
+    long value = 1;
+    for (int i = 0; i < iterations; i++) {
+      value ^= value << 13;
+      value ^= value >>> 7;
+      value ^= value << 17;
+    }
+    return value;
+  }
+
+  private static void sleep() {
+
+    try {
+      TimeUnit.MILLISECONDS.sleep(50);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.SoakReport;
+import pl.amazingcode.threadscollider.SoakRunner;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class SoakRunner_Scenarios {
+
+  @Test
+  void Stop_at_the_first_failed_round() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    AtomicInteger rounds = new AtomicInteger();
+    SoakReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(counter::incrementAndGet).times(2).build()) {
+
+      report =
+          SoakRunner.newInstance()
+              .withDuration(1, TimeUnit.MINUTES)
+              .withBeforeEachRound(rounds::incrementAndGet)
+              .run(threadsCollider, collision -> counter.get() == 10);
+    }
+
+    // Then
+    then(report.stop()).isEqualTo(SoakReport.Stop.FAILURE);
+    then(report.failed()).isTrue();
+    then(report.rounds()).isEqualTo(5);
+    then(rounds.get()).isEqualTo(5);
+    then(report.operations()).isEqualTo(10);
+    then(report.releaseSkews().count()).isEqualTo(5);
+    then(report.wallTimes().count()).isEqualTo(5);
+    then(report.failure()).isPresent();
+  }
+
+  @Test
+  void Report_exceptions_of_failed_round() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    SoakReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  if (counter.incrementAndGet() == 7) {
+                    throw new IllegalStateException("foo");
+                  }
+                },
+                "increment")
+            .times(2)
+            .build()) {
+
+      report = SoakRunner.newInstance().run(threadsCollider, collision -> false);
+    }
+
+    // Then
+    then(report.stop()).isEqualTo(SoakReport.Stop.FAILURE);
+    then(report.rounds()).isEqualTo(4);
+    CollisionReport failure = report.failure().get();
+    then(failure.failures()).hasSize(1);
+    then(failure.failures().get(0).actionName()).isEqualTo("increment");
+    then(failure.failures().get(0).exception()).hasMessage("foo");
+  }
+
+  @Test
+  void Stop_at_round_with_deadlocked_threads() {
+
+    // Given
+    Object monitor1 = new Object();
+    Object monitor2 = new Object();
+    CountDownLatch firstMonitorsTaken = new CountDownLatch(2);
+    AtomicInteger rounds = new AtomicInteger();
+    List<Exception> exceptions = new ArrayList<>();
+    SoakReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  if (rounds.get() == 3) {
+                    update(monitor1, monitor2, firstMonitorsTaken);
+                  }
+                },
+                "update1")
+            .times(1)
+            .withAction(
+                () -> {
+                  if (rounds.get() == 3) {
+                    update(monitor2, monitor1, firstMonitorsTaken);
+                  }
+                },
+                "update2")
+            .times(1)
+            .withDeadlockWatchdog(10, TimeUnit.MILLISECONDS)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report =
+          SoakRunner.newInstance()
+              .withBeforeEachRound(rounds::incrementAndGet)
+              .run(threadsCollider, collision -> false);
+    }
+
+    // Then
+    then(report.stop()).isEqualTo(SoakReport.Stop.FAILURE);
+    then(report.rounds()).isEqualTo(3);
+    CollisionReport failure = report.failure().get();
+    then(failure.failures()).isEmpty();
+    then(failure.unfinishedThreads())
+        .hasValueSatisfying(
+            unfinishedThreads ->
+                then(unfinishedThreads.getMessage())
+                    .contains("Deadlock detected")
+                    .contains("[update1]")
+                    .contains("[update2]"));
+    then(exceptions).containsExactly(failure.unfinishedThreads().get());
+  }
+
+  @Test
+  void Stop_at_deadline() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    SoakReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(counter::incrementAndGet).times(2).build()) {
+
+      report =
+          SoakRunner.newInstance()
+              .withDuration(200, TimeUnit.MILLISECONDS)
+              .run(threadsCollider, collision -> false);
+    }
+
+    // Then
+    then(report.stop()).isEqualTo(SoakReport.Stop.DEADLINE);
+    then(report.failed()).isFalse();
+    then(report.failure()).isEmpty();
+    then(report.rounds()).isGreaterThan(1);
+    then(report.operations()).isEqualTo(2 * report.rounds()).isEqualTo(counter.get());
+    then(report.elapsedNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void Stop_at_max_rounds() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    SoakReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(counter::incrementAndGet).times(2).build()) {
+
+      report = SoakRunner.newInstance().withMaxRounds(100).run(threadsCollider, collision -> false);
+    }
+
+    // Then
+    then(report.stop()).isEqualTo(SoakReport.Stop.MAX_ROUNDS);
+    then(report.rounds()).isEqualTo(100);
+    then(counter.get()).isEqualTo(200);
+    then(report.toString()).startsWith("SoakReport[stop=MAX_ROUNDS, rounds=100, operations=200");
+  }
+
+  @Test
+  void Reject_duration_which_is_not_positive() {
+
+    // When
+    Throwable exception =
+        catchThrowable(() -> SoakRunner.newInstance().withDuration(0, TimeUnit.SECONDS));
+
+    // Then
+    then(exception)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Duration has to be positive, but was 0 SECONDS.");
+  }
+
+  private static void update(Object first, Object second, CountDownLatch firstMonitorsTaken) {
+
+    synchronized (first) {
+      firstMonitorsTaken.countDown();
+      try {
+        firstMonitorsTaken.await();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      synchronized (second) {
+        Thread.yield();
+      }
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.InvalidActionRepetitionCount;
+import pl.amazingcode.threadscollider.LatencyHistogram;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+import pl.amazingcode.threadscollider.Throughput;
+import pl.amazingcode.threadscollider.fixtures.Counter;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Throughput_Scenarios {
+
+  @Test
+  void Repeat_actions_given_number_of_iterations() {
+    // Given
+    Counter counter = new Counter();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::increment, "increment")
+            .times(3)
+            .withAction(counter::decrement, "decrement")
+            .times(2)
+            .withIterations(1_000)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(counter.value()).isEqualTo(1_000);
+    then(report.throughput().operations()).isEqualTo(5_000);
+    then(report.throughput().fairness()).isEqualTo(1.0);
+    then(report.actionThroughput().get("increment").operations()).isEqualTo(3_000);
+    then(report.actionThroughput().get("decrement").operations()).isEqualTo(2_000);
+  }
+
+  @Test
+  void Repeat_actions_for_given_duration() {
+    // Given
+    Counter counter = new Counter();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::increment, "increment")
+            .times(2)
+            .withAction(counter::decrement, "decrement")
+            .times(2)
+            .withDuration(50, TimeUnit.MILLISECONDS)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    Throughput throughput = report.throughput();
+    then(exceptions).isEmpty();
+    then(throughput.threads()).isEqualTo(4);
+    then(throughput.operations())
+        .isEqualTo(
+            report.actionThroughput().get("increment").operations()
+                + report.actionThroughput().get("decrement").operations());
+    then(throughput.elapsedNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    then(throughput.operationsPerSecond()).isPositive();
+    then(throughput.fairness()).isBetween(0.25, 1.0);
+    then(throughput.minThreadOperations()).isLessThanOrEqualTo(throughput.maxThreadOperations());
+  }
+
+  @Test
+  void Record_latency_histograms_of_actions() {
+    // Given
+    Counter counter = new Counter();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(counter::increment, "increment")
+            .times(2)
+            .withAction(counter::decrement, "decrement")
+            .times(2)
+            .withIterations(1_000)
+            .withLatencyHistograms()
+            .build()) {
+
+      threadsCollider.collide();
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(report.actionLatencies()).containsOnlyKeys("increment", "decrement");
+    LatencyHistogram increment = report.actionLatencies().get("increment");
+    then(increment.count()).isEqualTo(2_000);
+    then(increment.valueAtPercentile(50)).isBetween(increment.min(), increment.max());
+  }
+
+  @Test
+  void Report_error_on_invalid_iterations() {
+    // When
+    Throwable throwable =
+        catchThrowable(() -> threadsCollider().withAction(() -> {}).times(1).withIterations(0));
+
+    // Then
+    then(throwable)
+        .isInstanceOf(InvalidActionRepetitionCount.class)
+        .hasMessage("Action has to be repeated at least once, but was 0 times.");
+  }
+
+  @Test
+  void Report_error_on_invalid_duration() {
+    // When
+    Throwable throwable =
+        catchThrowable(
+            () ->
+                threadsCollider().withAction(() -> {}).times(1).withDuration(0, TimeUnit.SECONDS));
+
+    // Then
+    then(throwable)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Duration has to be positive, but was 0 SECONDS.");
+  }
+}
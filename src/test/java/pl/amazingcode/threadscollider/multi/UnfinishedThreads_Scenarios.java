@@ -0,0 +1,64 @@
+package pl.amazingcode.threadscollider.multi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+import pl.amazingcode.threadscollider.UnfinishedThreads;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class UnfinishedThreads_Scenarios {
+
+  @Test
+  void Dump_full_stacks_of_only_unfinished_threads_of_collider() {
+    // Given
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> awaitForever(neverReleased), "stuck")
+            .times(1)
+            .withAction(() -> {})
+            .times(2)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .withAwaitTerminationTimeout(100)
+            .asMilliseconds()
+            .build()) {
+
+      threadsCollider.collide();
+    } finally {
+      neverReleased.countDown();
+    }
+
+    // Then
+    then(exceptions)
+        .singleElement()
+        .isInstanceOf(UnfinishedThreads.class)
+        .satisfies(
+            exception ->
+                then(exception.getMessage())
+                    .contains("Other unfinished threads: [")
+                    .contains("[stuck]\" action=stuck")
+                    .contains(" WAITING on java.util.concurrent.CountDownLatch")
+                    .contains("UnfinishedThreads_Scenarios.awaitForever")
+                    .contains("UnfinishedThreads_Scenarios.lambda$")
+                    .doesNotContain("action=action-2"));
+  }
+
+  private static void awaitForever(CountDownLatch latch) {
+
+    try {
+      latch.await();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package pl.amazingcode.threadscollider.single;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import pl.amazingcode.threadscollider.ColliderPool;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class ColliderPool_Scenarios {
+
+  private static final int THREADS = 4;
+
+  @Test
+  void Colliders_borrow_pre_started_threads_from_pool() {
+    // Given
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ColliderPool colliderPool = ColliderPool.newInstance(THREADS)) {
+      for (int collider = 0; collider < 10; collider++) {
+        try (ThreadsCollider threadsCollider =
+            threadsCollider()
+                .withAction(() -> threads.add(Thread.currentThread()))
+                .times(THREADS)
+                .withColliderPool(colliderPool)
+                .withThreadsExceptionsConsumer(exceptions::add)
+                .build()) {
+
+          threadsCollider.collide();
+        }
+      }
+
+      // Then
+      then(exceptions).isEmpty();
+      then(threads).hasSize(THREADS);
+      then(colliderPool.size()).isEqualTo(THREADS);
+    }
+  }
+
+  @Test
+  void Pool_grows_to_the_largest_collision() {
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ColliderPool colliderPool = ColliderPool.newInstance(1);
+        ThreadsCollider smallCollider =
+            threadsCollider()
+                .withAction(() -> {})
+                .times(2)
+                .withColliderPool(colliderPool)
+                .withThreadsExceptionsConsumer(exceptions::add)
+                .build();
+        ThreadsCollider largeCollider =
+            threadsCollider()
+                .withAction(() -> {})
+                .times(THREADS)
+                .withColliderPool(colliderPool)
+                .withThreadsExceptionsConsumer(exceptions::add)
+                .build()) {
+
+      smallCollider.collide();
+      largeCollider.collide();
+
+      // Then
+      then(exceptions).isEmpty();
+      then(colliderPool.size()).isEqualTo(2 + THREADS);
+    }
+  }
+
+  @Test
+  void Clean_up_threads_before_next_collider_borrows_them() {
+    // Given
+    Map<String, Boolean> interruptedThreads = new ConcurrentHashMap<>();
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ColliderPool colliderPool = ColliderPool.newInstance(THREADS)) {
+      try (ThreadsCollider threadsCollider =
+          threadsCollider()
+              .withAction(() -> Thread.currentThread().interrupt(), "dirty")
+              .times(THREADS)
+              .withColliderPool(colliderPool)
+              .withThreadsExceptionsConsumer(exceptions::add)
+              .build()) {
+
+        threadsCollider.collide();
+      }
+
+      try (ThreadsCollider threadsCollider =
+          threadsCollider()
+              .withAction(
+                  () ->
+                      interruptedThreads.put(
+                          Thread.currentThread().getName(), Thread.currentThread().isInterrupted()))
+              .times(THREADS)
+              .withColliderPool(colliderPool)
+              .withThreadsExceptionsConsumer(exceptions::add)
+              .build()) {
+
+        threadsCollider.collide();
+      }
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(interruptedThreads)
+        .hasSize(THREADS)
+        .allSatisfy(
+            (name, interrupted) -> {
+              then(name).startsWith("collider-pool-thread-").doesNotContain("dirty");
+              then(interrupted).isFalse();
+            });
+  }
+
+  @Test
+  void Shared_pool_is_not_closed() {
+    // Given
+    ColliderPool colliderPool = ColliderPool.shared();
+    List<Exception> exceptions = new ArrayList<>();
+    colliderPool.close();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(THREADS)
+            .withColliderPool(colliderPool)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(colliderPool).isSameAs(ColliderPool.shared());
+    then(colliderPool.size()).isGreaterThanOrEqualTo(THREADS);
+  }
+
+  @Test
+  void Cannot_collide_with_closed_pool() {
+    // Given
+    ColliderPool colliderPool = ColliderPool.newInstance(THREADS);
+    colliderPool.close();
+
+    // When
+    Throwable throwable;
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> {})
+            .times(THREADS)
+            .withColliderPool(colliderPool)
+            .build()) {
+
+      throwable = catchThrowable(threadsCollider::collide);
+    }
+
+    // Then
+    then(throwable)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Collider pool is closed.");
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  void Cannot_borrow_virtual_threads_from_pool() {
+    // Given
+    ColliderPool colliderPool = ColliderPool.shared();
+
+    // When
+    Throwable throwable =
+        catchThrowable(
+            () ->
+                threadsCollider()
+                    .withAction(() -> {})
+                    .times(THREADS)
+                    .withVirtualThreads()
+                    .withColliderPool(colliderPool)
+                    .build());
+
+    // Then
+    then(throwable)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Virtual threads cannot be borrowed from collider pool.");
+  }
+}
@@ -0,0 +1,91 @@
+package pl.amazingcode.threadscollider.single;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.Collision;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Collision_Scenarios {
+
+  private static final int THREADS = 4;
+  private static final int COLLISIONS = 100;
+
+  @Test
+  void Collision_point_does_nothing_outside_collision() {
+    // Given
+    long startTime = System.nanoTime();
+
+    // When
+    for (int i = 0; i < 1_000_000; i++) {
+      Collision.point();
+    }
+
+    // Then
+    then(System.nanoTime() - startTime).isLessThan(1_000_000_000L);
+  }
+
+  @Test
+  void Collision_points_widen_race_between_check_and_act() {
+    // Given
+    List<Exception> exceptions = new ArrayList<>();
+    LazyValue lazyValue = new LazyValue();
+    int racesHit = 0;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(lazyValue::get)
+            .times(THREADS)
+            .withCollisionPoints(42)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      for (int collision = 0; collision < COLLISIONS; collision++) {
+        lazyValue.reset();
+        threadsCollider.collide();
+        if (lazyValue.initializations() > 1) {
+          racesHit++;
+        }
+      }
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(racesHit).isPositive();
+  }
+
+  private static final class LazyValue {
+
+    private final AtomicInteger initializations = new AtomicInteger();
+    private volatile Object value;
+
+    Object get() {
+
+      if (value == null) {
+        Collision.point();
+        initializations.incrementAndGet();
+        value = new Object();
+      }
+      return value;
+    }
+
+    void reset() {
+
+      value = null;
+      initializations.set(0);
+    }
+
+    int initializations() {
+
+      return initializations.get();
+    }
+  }
+}
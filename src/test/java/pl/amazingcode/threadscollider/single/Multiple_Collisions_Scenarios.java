@@ -0,0 +1,73 @@
+package pl.amazingcode.threadscollider.single;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import pl.amazingcode.threadscollider.StartBarrier;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class Multiple_Collisions_Scenarios {
+
+  private static final int ROUNDS = 100;
+  private static final int THREADS = 4;
+
+  @ParameterizedTest
+  @EnumSource(StartBarrier.class)
+  void Collide_many_times_on_the_same_threads(StartBarrier startBarrier) {
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  counter.incrementAndGet();
+                  threads.add(Thread.currentThread());
+                })
+            .times(THREADS)
+            .withStartBarrier(startBarrier)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      for (int round = 0; round < ROUNDS; round++) {
+        threadsCollider.collide();
+      }
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(counter).hasValue(ROUNDS * THREADS);
+    then(threads).hasSize(THREADS);
+  }
+
+  @Test
+  void Report_error_on_collide_after_close() {
+    // Given
+    ThreadsCollider threadsCollider = threadsCollider().withAction(() -> {}).times(THREADS).build();
+    threadsCollider.collide();
+    threadsCollider.close();
+
+    // When
+    Throwable throwable = catchThrowable(threadsCollider::collide);
+
+    // Then
+    then(throwable)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Threads collider is closed.");
+  }
+}
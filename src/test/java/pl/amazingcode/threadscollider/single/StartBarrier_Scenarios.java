@@ -0,0 +1,84 @@
+package pl.amazingcode.threadscollider.single;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+import static pl.amazingcode.threadscollider.fixtures.AppleExamples.RED_DELICIOUS;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import pl.amazingcode.threadscollider.CollisionReport;
+import pl.amazingcode.threadscollider.Processors;
+import pl.amazingcode.threadscollider.StartBarrier;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+import pl.amazingcode.threadscollider.fixtures.UniqueApples;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class StartBarrier_Scenarios {
+
+  @ParameterizedTest
+  @EnumSource(StartBarrier.class)
+  void Collide_threads_with_start_barrier(StartBarrier startBarrier) {
+    // Given
+    UniqueApples uniqueApples = UniqueApples.newInstance();
+    List<Exception> exceptions = new ArrayList<>();
+    CollisionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> uniqueApples.add(RED_DELICIOUS))
+            .times(4)
+            .withStartBarrier(startBarrier)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      report = threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(uniqueApples).hasSize(1).containsExactly(RED_DELICIOUS);
+    then(report.releaseSkew().count()).isEqualTo(4);
+    then(report.releaseSkew().min()).isZero();
+    then(report.releaseSkew().max()).isNotNegative();
+  }
+
+  @ParameterizedTest
+  @EnumSource(StartBarrier.class)
+  void Collide_more_threads_than_processors_many_times(StartBarrier startBarrier) {
+    // Given
+    int threads = Processors.ALL * 4;
+    UniqueApples uniqueApples = UniqueApples.newInstance();
+    List<Exception> exceptions = new ArrayList<>();
+    List<CollisionReport> reports = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(() -> uniqueApples.add(RED_DELICIOUS))
+            .times(threads)
+            .withStartBarrier(startBarrier)
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      for (int collision = 0; collision < 10; collision++) {
+        reports.add(threadsCollider.collide());
+      }
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(uniqueApples).hasSize(1).containsExactly(RED_DELICIOUS);
+    then(reports)
+        .allSatisfy(
+            report -> {
+              then(report.releaseSkew().count()).isEqualTo(threads);
+              then(report.timeToReadyNanos()).isPositive();
+              then(report.timeToReadyNanos()).isLessThanOrEqualTo(report.wallTimeNanos());
+            });
+  }
+}
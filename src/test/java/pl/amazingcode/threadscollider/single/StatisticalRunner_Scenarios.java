@@ -0,0 +1,152 @@
+package pl.amazingcode.threadscollider.single;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.within;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import pl.amazingcode.threadscollider.DetectionReport;
+import pl.amazingcode.threadscollider.Processors;
+import pl.amazingcode.threadscollider.StatisticalRunner;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class StatisticalRunner_Scenarios {
+
+  @Test
+  void Stop_as_soon_as_bug_manifests() {
+
+    // Given
+    AtomicInteger rounds = new AtomicInteger();
+
+    // When
+    DetectionReport report =
+        StatisticalRunner.newInstance().run(() -> rounds.incrementAndGet() == 5);
+
+    // Then
+    then(report.stop()).isEqualTo(DetectionReport.Stop.FAILURES_FOUND);
+    then(report.detected()).isTrue();
+    then(report.rounds()).isEqualTo(5);
+    then(report.failures()).isEqualTo(1);
+    then(rounds).hasValue(5);
+  }
+
+  @Test
+  void Stop_when_bug_is_not_detectable_with_chosen_confidence() {
+
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    DetectionReport report;
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider().withAction(counter::incrementAndGet).times(Processors.ALL).build()) {
+
+      report =
+          StatisticalRunner.newInstance()
+              .withMinDetectableProbability(0.01)
+              .withConfidence(0.95)
+              .run(
+                  () -> {
+                    counter.set(0);
+                    threadsCollider.collide();
+                    return counter.get() != Processors.ALL;
+                  });
+    }
+
+    // Then
+    then(report.stop()).isEqualTo(DetectionReport.Stop.NOT_DETECTABLE);
+    then(report.detected()).isFalse();
+    then(report.rounds()).isEqualTo(299);
+    then(report.probability()).isZero();
+    then(report.lowerBound()).isZero();
+    then(report.upperBound()).isCloseTo(0.0127, within(0.0001));
+    then(report.roundsToDetect(0.99)).isEqualTo(Long.MAX_VALUE);
+    then(report.elapsedNanos()).isPositive();
+  }
+
+  @Test
+  void Estimate_probability_of_manifestation_with_confidence_interval() {
+
+    // Given
+    AtomicInteger rounds = new AtomicInteger();
+
+    // When
+    DetectionReport report =
+        StatisticalRunner.newInstance()
+            .withStopAfterFailures(50)
+            .run(() -> rounds.incrementAndGet() % 4 == 0);
+
+    // Then
+    then(report.stop()).isEqualTo(DetectionReport.Stop.FAILURES_FOUND);
+    then(report.rounds()).isEqualTo(200);
+    then(report.failures()).isEqualTo(50);
+    then(report.probability()).isEqualTo(0.25);
+    then(report.lowerBound()).isCloseTo(0.1951, within(0.0001));
+    then(report.upperBound()).isCloseTo(0.3143, within(0.0001));
+    then(report.roundsToDetect(0.99)).isEqualTo(22);
+    then(report.toString())
+        .startsWith("DetectionReport[stop=FAILURES_FOUND, rounds=200, failures=50");
+  }
+
+  @Test
+  void Stop_when_bug_manifested_but_is_rarer_than_min_detectable_probability() {
+
+    // Given
+    AtomicInteger rounds = new AtomicInteger();
+
+    // When
+    DetectionReport report =
+        StatisticalRunner.newInstance()
+            .withMinDetectableProbability(0.01)
+            .withConfidence(0.95)
+            .withStopAfterFailures(5)
+            .run(() -> rounds.incrementAndGet() == 1);
+
+    // Then
+    then(report.stop()).isEqualTo(DetectionReport.Stop.BELOW_MIN_DETECTABLE_PROBABILITY);
+    then(report.detected()).isTrue();
+    then(report.failures()).isEqualTo(1);
+    then(report.rounds()).isEqualTo(563);
+    then(report.upperBound()).isLessThan(0.01);
+  }
+
+  @Test
+  void Stop_after_max_rounds() {
+
+    // When
+    DetectionReport report =
+        StatisticalRunner.newInstance()
+            .withMinDetectableProbability(0.0001)
+            .withMaxRounds(100)
+            .run(() -> false);
+
+    // Then
+    then(report.stop()).isEqualTo(DetectionReport.Stop.MAX_ROUNDS);
+    then(report.rounds()).isEqualTo(100);
+  }
+
+  @Test
+  void Reject_invalid_settings() {
+
+    // When
+    Throwable probability =
+        catchThrowable(() -> StatisticalRunner.newInstance().withMinDetectableProbability(1));
+    Throwable confidence = catchThrowable(() -> StatisticalRunner.newInstance().withConfidence(0));
+    Throwable maxRounds = catchThrowable(() -> StatisticalRunner.newInstance().withMaxRounds(0));
+    Throwable failures =
+        catchThrowable(() -> StatisticalRunner.newInstance().withStopAfterFailures(0));
+
+    // Then
+    then(probability)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Min detectable probability has to be between 0 and 1, but was 1.0.");
+    then(confidence).hasMessage("Confidence has to be between 0 and 1, but was 0.0.");
+    then(maxRounds).hasMessage("Max rounds have to be positive, but were 0.");
+    then(failures).hasMessage("Stop after failures has to be positive, but was 0.");
+  }
+}
@@ -0,0 +1,67 @@
+package pl.amazingcode.threadscollider.single;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static pl.amazingcode.threadscollider.ThreadsCollider.ThreadsColliderBuilder.threadsCollider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import pl.amazingcode.threadscollider.ThreadsCollider;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+final class VirtualThreads_Scenarios {
+
+  private static final int THREADS = 10_000;
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  void Collide_virtual_threads() throws Exception {
+    // Given
+    AtomicInteger counter = new AtomicInteger();
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    List<Exception> exceptions = new ArrayList<>();
+
+    // When
+    try (ThreadsCollider threadsCollider =
+        threadsCollider()
+            .withAction(
+                () -> {
+                  counter.incrementAndGet();
+                  threadNames.add(Thread.currentThread().getName());
+                })
+            .times(THREADS)
+            .withVirtualThreads()
+            .withThreadsExceptionsConsumer(exceptions::add)
+            .build()) {
+
+      threadsCollider.collide();
+      threadsCollider.collide();
+    }
+
+    // Then
+    then(exceptions).isEmpty();
+    then(counter).hasValue(2 * THREADS);
+    then(threadNames).hasSize(THREADS).allMatch(name -> name.startsWith("collider-pool-virtual"));
+  }
+
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  void Report_error_on_virtual_threads_before_java_21() {
+    // When
+    Throwable throwable =
+        catchThrowable(() -> threadsCollider().withAction(() -> {}).times(1).withVirtualThreads());
+
+    // Then
+    then(throwable)
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Virtual threads require Java 21 or newer.");
+  }
+}